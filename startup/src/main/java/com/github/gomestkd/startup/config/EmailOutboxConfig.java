@@ -0,0 +1,121 @@
+package com.github.gomestkd.startup.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "email.outbox")
+@Validated
+public class EmailOutboxConfig {
+
+    /**
+     * Whether this node drains the outbox. Messages are enqueued either way.
+     */
+    private boolean dispatcherEnabled = true;
+    @Min(1)
+    private int workers = 2;
+    @Min(1)
+    private int batchSize = 10;
+    @NotNull
+    private Duration pollInterval = Duration.ofSeconds(1);
+    @NotNull
+    private Duration lease = Duration.ofMinutes(5);
+    @Min(1)
+    private int maxAttempts = 5;
+    @NotNull
+    private Duration initialBackoff = Duration.ofSeconds(30);
+    @NotNull
+    private Duration maxBackoff = Duration.ofHours(1);
+    @NotNull
+    private Duration retention = Duration.ofDays(7);
+    @Min(1)
+    private int maxBatchRecipients = 10_000;
+
+    public EmailOutboxConfig() {
+    }
+
+    public boolean isDispatcherEnabled() {
+        return dispatcherEnabled;
+    }
+
+    public void setDispatcherEnabled(boolean dispatcherEnabled) {
+        this.dispatcherEnabled = dispatcherEnabled;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public Duration getLease() {
+        return lease;
+    }
+
+    public void setLease(Duration lease) {
+        this.lease = lease;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public void setInitialBackoff(Duration initialBackoff) {
+        this.initialBackoff = initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public void setMaxBackoff(Duration maxBackoff) {
+        this.maxBackoff = maxBackoff;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+
+    public int getMaxBatchRecipients() {
+        return maxBatchRecipients;
+    }
+
+    public void setMaxBatchRecipients(int maxBatchRecipients) {
+        this.maxBatchRecipients = maxBatchRecipients;
+    }
+}
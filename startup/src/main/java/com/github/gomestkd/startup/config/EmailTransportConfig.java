@@ -0,0 +1,59 @@
+package com.github.gomestkd.startup.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "email.transport")
+@Validated
+public class EmailTransportConfig {
+
+    @Min(1)
+    private int maxConnections = 4;
+    @Min(1)
+    private int maxMessagesPerConnection = 100;
+    @NotNull
+    private Duration validateAfterIdle = Duration.ofSeconds(10);
+    @NotNull
+    private Duration borrowTimeout = Duration.ofSeconds(30);
+
+    public EmailTransportConfig() {
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public int getMaxMessagesPerConnection() {
+        return maxMessagesPerConnection;
+    }
+
+    public void setMaxMessagesPerConnection(int maxMessagesPerConnection) {
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+    }
+
+    public Duration getValidateAfterIdle() {
+        return validateAfterIdle;
+    }
+
+    public void setValidateAfterIdle(Duration validateAfterIdle) {
+        this.validateAfterIdle = validateAfterIdle;
+    }
+
+    public Duration getBorrowTimeout() {
+        return borrowTimeout;
+    }
+
+    public void setBorrowTimeout(Duration borrowTimeout) {
+        this.borrowTimeout = borrowTimeout;
+    }
+}
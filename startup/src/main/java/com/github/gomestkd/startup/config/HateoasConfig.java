@@ -0,0 +1,24 @@
+package com.github.gomestkd.startup.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Configuration
+@ConfigurationProperties(prefix = "hateoas")
+@Validated
+public class HateoasConfig {
+
+    private boolean linksOnlyForHal = false;
+
+    public HateoasConfig() {
+    }
+
+    public boolean isLinksOnlyForHal() {
+        return linksOnlyForHal;
+    }
+
+    public void setLinksOnlyForHal(boolean linksOnlyForHal) {
+        this.linksOnlyForHal = linksOnlyForHal;
+    }
+}
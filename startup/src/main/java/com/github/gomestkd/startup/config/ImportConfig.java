@@ -0,0 +1,81 @@
+package com.github.gomestkd.startup.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "import")
+@Validated
+public class ImportConfig {
+
+    public enum Mode { BATCH, PER_ROW }
+
+    @NotNull
+    private Mode mode = Mode.BATCH;
+    @Min(1)
+    private int chunkSize = 1000;
+    @Min(1)
+    private int parseParallelism = 1;
+    @Min(1024)
+    private int parseChunkChars = 1 << 20;
+    @Min(0)
+    private int maxReportedErrors = 100;
+    @NotNull
+    private Duration rejectsRetention = Duration.ofDays(1);
+
+    public ImportConfig() {
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getParseParallelism() {
+        return parseParallelism;
+    }
+
+    public void setParseParallelism(int parseParallelism) {
+        this.parseParallelism = parseParallelism;
+    }
+
+    public int getParseChunkChars() {
+        return parseChunkChars;
+    }
+
+    public void setParseChunkChars(int parseChunkChars) {
+        this.parseChunkChars = parseChunkChars;
+    }
+
+    public int getMaxReportedErrors() {
+        return maxReportedErrors;
+    }
+
+    public void setMaxReportedErrors(int maxReportedErrors) {
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public Duration getRejectsRetention() {
+        return rejectsRetention;
+    }
+
+    public void setRejectsRetention(Duration rejectsRetention) {
+        this.rejectsRetention = rejectsRetention;
+    }
+}
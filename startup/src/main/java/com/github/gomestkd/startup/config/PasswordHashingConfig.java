@@ -0,0 +1,66 @@
+package com.github.gomestkd.startup.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "security.password-hashing")
+@Validated
+public class PasswordHashingConfig {
+
+    /**
+     * Number of hashing threads; 0 uses one thread per available processor.
+     */
+    @Min(0)
+    private int poolSize = 0;
+    @Min(0)
+    private int queueCapacity = 32;
+    @NotNull
+    private Duration maxWait = Duration.ofSeconds(5);
+    /**
+     * PBKDF2 iterations for new hashes. Stored hashes made with a different count are
+     * rehashed on the next successful sign-in.
+     */
+    @Min(1)
+    private int iterations = 185000;
+
+    public PasswordHashingConfig() {
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    public void setMaxWait(Duration maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public void setIterations(int iterations) {
+        this.iterations = iterations;
+    }
+}
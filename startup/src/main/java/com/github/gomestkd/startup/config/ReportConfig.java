@@ -0,0 +1,47 @@
+package com.github.gomestkd.startup.config;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "report")
+@Validated
+public class ReportConfig {
+    @NotBlank
+    private String templateLocation = "classpath:templates/";
+    @NotEmpty
+    private List<String> templates = List.of("people", "person", "books");
+    private boolean hotReload = false;
+
+    public ReportConfig() {
+    }
+
+    public String getTemplateLocation() {
+        return templateLocation;
+    }
+
+    public void setTemplateLocation(String templateLocation) {
+        this.templateLocation = templateLocation;
+    }
+
+    public List<String> getTemplates() {
+        return templates;
+    }
+
+    public void setTemplates(List<String> templates) {
+        this.templates = templates;
+    }
+
+    public boolean isHotReload() {
+        return hotReload;
+    }
+
+    public void setHotReload(boolean hotReload) {
+        this.hotReload = hotReload;
+    }
+}
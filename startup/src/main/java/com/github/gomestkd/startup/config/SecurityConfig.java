@@ -2,24 +2,19 @@ package com.github.gomestkd.startup.config;
 
 import com.github.gomestkd.startup.secutiry.jwt.JwtTokenFilter;
 import com.github.gomestkd.startup.secutiry.jwt.JwtTokenProvider;
+import com.github.gomestkd.startup.secutiry.password.VersionedPbkdf2PasswordEncoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Set;
 
 @EnableWebSecurity
@@ -34,27 +29,13 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        PasswordEncoder pbkdf2Encoder = new Pbkdf2PasswordEncoder(
-                "", 8, 185000,
-                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256
-        );
-
-        Map<String, PasswordEncoder> encoders = new HashMap<>();
-        encoders.put("pbkdf2", pbkdf2Encoder);
-
-        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("pbkdf2", encoders);
-        encoder.setDefaultPasswordEncoderForMatches(pbkdf2Encoder);
+    public PasswordEncoder passwordEncoder(PasswordHashingConfig hashingConfig) {
+        PasswordEncoder encoder = new VersionedPbkdf2PasswordEncoder(hashingConfig.getIterations());
 
-        logger.info("PasswordEncoder configured with PBKDF2 (HMACSHA256).");
+        logger.info("PasswordEncoder configured with PBKDF2 (HMACSHA256), {} iterations.", hashingConfig.getIterations());
         return encoder;
     }
 
-    @Bean
-    public AuthenticationManager authenticationManager(AuthenticationConfiguration configuration) throws Exception {
-        return configuration.getAuthenticationManager();
-    }
-
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         JwtTokenFilter filter = new JwtTokenFilter(tokenProvider);
@@ -78,8 +59,10 @@ public class SecurityConfig {
                 )
                 .authorizeHttpRequests(
                         authz -> authz
+                                .requestMatchers("/auth/signout").authenticated()
                                 .requestMatchers(publicEndpoints.toArray(new String[0])).permitAll()
                                 .requestMatchers("/api/**").authenticated()
+                                .requestMatchers("/actuator/**").authenticated()
                                 .requestMatchers("/users").denyAll()
                 )
                 .cors(cors -> {})
@@ -0,0 +1,69 @@
+package com.github.gomestkd.startup.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * Active only with {@code spring.threads.virtual.enabled=true}. Spring Boot then runs Tomcat
+ * handlers, the MVC async executor and the task scheduler on virtual threads; this configuration
+ * adds a JFR stream that reports every virtual thread pinned to its carrier for longer than
+ * {@code threads.pinned-threshold}, usually a blocking call made inside a {@code synchronized} block.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfig.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    @Bean(destroyMethod = "close")
+    public RecordingStream virtualThreadPinningRecording(
+            MeterRegistry meterRegistry,
+            @Value("${threads.pinned-threshold:20ms}") Duration threshold) {
+        Counter pinnedCount = Counter.builder("jvm.threads.virtual.pinned")
+                .description("Virtual threads pinned to their carrier longer than the threshold")
+                .register(meterRegistry);
+        Timer pinnedTime = Timer.builder("jvm.threads.virtual.pinned.duration")
+                .description("Time virtual threads stayed pinned to their carrier")
+                .register(meterRegistry);
+
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, event -> {
+            pinnedCount.increment();
+            pinnedTime.record(event.getDuration());
+            logger.warn("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), topFrames(event.getStackTrace()));
+        });
+        recording.startAsync();
+
+        logger.info("Virtual threads enabled, reporting pinned threads over {} ms.", threshold.toMillis());
+        return recording;
+    }
+
+    private static String topFrames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) return "<no stack trace>";
+        return stackTrace.getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(VirtualThreadConfig::format)
+                .collect(Collectors.joining(" <- "));
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -9,6 +9,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -61,6 +62,13 @@ public class AuthController implements AuthControllerDocs {
         return token;
     }
 
+    @PostMapping(value = "/signout")
+    @Override
+    public ResponseEntity<Void> signout(Authentication authentication) {
+        service.signOut(authentication.getName());
+        return ResponseEntity.noContent().build();
+    }
+
     @PostMapping(
             value = "/createUser",
             consumes = {
@@ -7,7 +7,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -27,22 +29,38 @@ public class BookController implements BookControllerDocs {
 
     @GetMapping(produces = {
             MediaType.APPLICATION_JSON_VALUE,
+            MediaTypes.HAL_JSON_VALUE,
             MediaType.APPLICATION_XML_VALUE,
             "application/x-yaml"})
     @Override
     public ResponseEntity<PagedModel<EntityModel<BookDTO>>> findAll(
             @RequestParam(value = "page", defaultValue = "0") Integer page,
             @RequestParam(value = "size", defaultValue = "12") Integer size,
-            @RequestParam(value = "direction", defaultValue = "asc") String direction
+            @RequestParam(value = "direction", defaultValue = "asc") String direction,
+            @RequestParam(value = "withTotal", defaultValue = "true") Boolean withTotal,
+            @RequestParam(value = "approximateTotal", defaultValue = "false") Boolean approximateTotal
     ) {
         Sort.Direction sortDirection = "desc".equalsIgnoreCase(direction) ? Sort.Direction.DESC : Sort.Direction.ASC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, "title"));
-        return ResponseEntity.ok(service.findAll(pageable));
+        return ResponseEntity.ok(service.findAll(pageable, withTotal, approximateTotal));
+    }
+
+    @GetMapping(value = "/cursor", produces = {
+            MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_XML_VALUE,
+            "application/x-yaml"})
+    @Override
+    public ResponseEntity<CollectionModel<BookDTO>> findAllByCursor(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "12") Integer size
+    ) {
+        return ResponseEntity.ok(service.findAllByCursor(cursor, size));
     }
 
     @GetMapping(value = "/{id}",
             produces = {
                     MediaType.APPLICATION_JSON_VALUE,
+                    MediaTypes.HAL_JSON_VALUE,
                     MediaType.APPLICATION_XML_VALUE,
                     "application/x-yaml"}
     )
@@ -1,6 +1,9 @@
 package com.github.gomestkd.startup.controllers;
 
 import com.github.gomestkd.startup.controllers.docs.EmailControllerDocs;
+import com.github.gomestkd.startup.data.dto.EmailBatchDTO;
+import com.github.gomestkd.startup.data.dto.EmailOutboxDTO;
+import com.github.gomestkd.startup.data.dto.request.EmailBatchRequestDTO;
 import com.github.gomestkd.startup.data.dto.request.EmailRequestDTO;
 import com.github.gomestkd.startup.services.EmailService;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -8,6 +11,9 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
 
 @RestController
 @RequestMapping("/api/v1/email")
@@ -20,23 +26,42 @@ public class EmailController implements EmailControllerDocs {
         this.service = service;
     }
 
-    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     @Override
-    public ResponseEntity<String> sendEmail(@RequestBody EmailRequestDTO emailRequest) {
-        service.sendSimpleEmail(emailRequest);
-        return ResponseEntity.ok("e-Mail sent with success!");
+    public ResponseEntity<EmailOutboxDTO> sendEmail(@RequestBody EmailRequestDTO emailRequest) {
+        return accepted(service.sendSimpleEmail(emailRequest));
     }
 
     @PostMapping(
             value = "/attachment",
-            consumes = { MediaType.MULTIPART_FORM_DATA_VALUE }
+            consumes = { MediaType.MULTIPART_FORM_DATA_VALUE },
+            produces = MediaType.APPLICATION_JSON_VALUE
     )
     @Override
-    public ResponseEntity<String> sendEmailWithAttachment(
+    public ResponseEntity<EmailOutboxDTO> sendEmailWithAttachment(
             @RequestParam("emailRequestJson") String emailRequestJson,
             MultipartFile attachment
     ) {
-        service.sendEmailWithAttachment(emailRequestJson, attachment);
-        return ResponseEntity.ok("e-Mail with attachment sent with success!");
+        return accepted(service.sendEmailWithAttachment(emailRequestJson, attachment));
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Override
+    public ResponseEntity<EmailBatchDTO> sendBatch(@RequestBody EmailBatchRequestDTO batchRequest) {
+        return ResponseEntity.accepted().body(service.sendBatch(batchRequest));
+    }
+
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Override
+    public EmailOutboxDTO getEmailStatus(@PathVariable("id") Long id) {
+        return service.getStatus(id);
+    }
+
+    private ResponseEntity<EmailOutboxDTO> accepted(EmailOutboxDTO email) {
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/v1/email/{id}")
+                .buildAndExpand(email.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(email);
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,11 @@
 package com.github.gomestkd.startup.controllers;
 
 import com.github.gomestkd.startup.controllers.docs.PersonControllerDocs;
+import com.github.gomestkd.startup.data.dto.ExportJobDTO;
+import com.github.gomestkd.startup.data.dto.ImportSummaryDTO;
 import com.github.gomestkd.startup.data.dto.PersonDTO;
 import com.github.gomestkd.startup.file.exporter.MediaTypes;
+import com.github.gomestkd.startup.services.ExportJobService;
 import com.github.gomestkd.startup.services.PersonService;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -12,6 +15,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.HttpHeaders;
@@ -20,9 +24,11 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.net.URI;
 import java.util.Map;
-import java.util.Set;
 
 @RestController
 @RequestMapping("/api/v1/person")
@@ -30,9 +36,11 @@ import java.util.Set;
 public class PersonController implements PersonControllerDocs {
 
     private final PersonService service;
+    private final ExportJobService exportJobService;
 
-    public PersonController(PersonService service) {
+    public PersonController(PersonService service, ExportJobService exportJobService) {
         this.service = service;
+        this.exportJobService = exportJobService;
     }
 
     @GetMapping(produces = {
@@ -43,11 +51,13 @@ public class PersonController implements PersonControllerDocs {
     public ResponseEntity<PagedModel<EntityModel<PersonDTO>>> findAll(
             @RequestParam(value = "page", defaultValue = "0") Integer page,
             @RequestParam(value = "size", defaultValue = "12") Integer size,
-            @RequestParam(value = "direction", defaultValue = "asc") String direction
+            @RequestParam(value = "direction", defaultValue = "asc") String direction,
+            @RequestParam(value = "withTotal", defaultValue = "true") Boolean withTotal,
+            @RequestParam(value = "approximateTotal", defaultValue = "false") Boolean approximateTotal
     ) {
         Direction sortDirection = "desc".equalsIgnoreCase(direction) ? Direction.DESC : Direction.ASC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, "firstName"));
-        return ResponseEntity.ok(service.findAll(pageable));
+        return ResponseEntity.ok(service.findAll(pageable, withTotal, approximateTotal));
     }
 
     @GetMapping(value = "/exportPage", produces = {
@@ -83,6 +93,86 @@ public class PersonController implements PersonControllerDocs {
                 .body(file);
     }
 
+    @PostMapping(value = "/exportJobs", produces = {
+            MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_XML_VALUE,
+            "application/x-yaml"})
+    @Override
+    public ResponseEntity<ExportJobDTO> submitExportJob(
+            @RequestParam(value = "page", defaultValue = "0") Integer page,
+            @RequestParam(value = "size", defaultValue = "12") Integer size,
+            @RequestParam(value = "direction", defaultValue = "asc") String direction,
+            @RequestParam(value = "format") String format
+    ) {
+        Direction sortDirection = "desc".equalsIgnoreCase(direction) ? Direction.DESC : Direction.ASC;
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, "firstName"));
+
+        ExportJobDTO job = withDownloadUri(exportJobService.submit(pageable, format));
+        URI location = ServletUriComponentsBuilder.fromCurrentRequestUri()
+                .path("/{jobId}")
+                .buildAndExpand(job.getJobId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    @GetMapping(value = "/exportJobs/{jobId}", produces = {
+            MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_XML_VALUE,
+            "application/x-yaml"})
+    @Override
+    public ExportJobDTO getExportJob(@PathVariable("jobId") String jobId) {
+        return withDownloadUri(exportJobService.getStatus(jobId));
+    }
+
+    @GetMapping(value = "/exportJobs/{jobId}/file")
+    @Override
+    public ResponseEntity<Resource> downloadExportJob(@PathVariable("jobId") String jobId) {
+        ExportJobDTO job = exportJobService.getStatus(jobId);
+        Resource file = exportJobService.download(jobId);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(job.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + exportJobService.fileNameOf(jobId) + "\"")
+                .body(file);
+    }
+
+    @DeleteMapping(value = "/exportJobs/{jobId}")
+    @Override
+    public ResponseEntity<Void> cancelExportJob(@PathVariable("jobId") String jobId) {
+        exportJobService.cancel(jobId);
+        return ResponseEntity.noContent().build();
+    }
+
+    private ExportJobDTO withDownloadUri(ExportJobDTO job) {
+        if (job.getStatus() == ExportJobDTO.Status.COMPLETED) {
+            job.setDownloadUri(ServletUriComponentsBuilder.fromCurrentContextPath()
+                    .path("/api/v1/person/exportJobs/{jobId}/file")
+                    .buildAndExpand(job.getJobId())
+                    .toUriString());
+        }
+        return job;
+    }
+
+    @GetMapping(value = "/exportAll", produces = {
+            MediaTypes.APPLICATION_CSV_VALUE,
+            MediaTypes.APPLICATION_XLSX_VALUE})
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportAll(
+            @RequestParam(value = "direction", defaultValue = "asc") String direction,
+            HttpServletRequest request
+    ) {
+        Direction sortDirection = "desc".equalsIgnoreCase(direction) ? Direction.DESC : Direction.ASC;
+        String acceptHeader = request.getHeader(HttpHeaders.ACCEPT);
+        StreamingResponseBody body = service.exportAll(Sort.by(sortDirection, "firstName"), acceptHeader);
+
+        String fileExtension = MediaTypes.APPLICATION_XLSX_VALUE.equalsIgnoreCase(acceptHeader) ? ".xlsx" : ".csv";
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(acceptHeader))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"people_exported" + fileExtension + "\"")
+                .body(body);
+    }
+
     @GetMapping(value = "/findPeopleByName/{firstName}", produces = {
             MediaType.APPLICATION_JSON_VALUE,
             MediaType.APPLICATION_XML_VALUE,
@@ -92,11 +182,24 @@ public class PersonController implements PersonControllerDocs {
             @PathVariable("firstName") String firstName,
             @RequestParam(value = "page", defaultValue = "0") Integer page,
             @RequestParam(value = "size", defaultValue = "12") Integer size,
-            @RequestParam(value = "direction", defaultValue = "asc") String direction
+            @RequestParam(value = "direction", defaultValue = "asc") String direction,
+            @RequestParam(value = "includeLastName", defaultValue = "false") Boolean includeLastName
     ) {
         Direction sortDirection = "desc".equalsIgnoreCase(direction) ? Direction.DESC : Direction.ASC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, "firstName"));
-        return ResponseEntity.ok(service.findByName(firstName, pageable));
+        return ResponseEntity.ok(service.findByName(firstName, includeLastName, pageable));
+    }
+
+    @GetMapping(value = "/cursor", produces = {
+            MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_XML_VALUE,
+            "application/x-yaml"})
+    @Override
+    public ResponseEntity<CollectionModel<PersonDTO>> findAllByCursor(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "12") Integer size
+    ) {
+        return ResponseEntity.ok(service.findAllByCursor(cursor, size));
     }
 
     @GetMapping(value = "/{id}",
@@ -145,8 +248,15 @@ public class PersonController implements PersonControllerDocs {
     )
     @ResponseStatus(HttpStatus.CREATED)
     @Override
-    public Set<PersonDTO> massCreation(@RequestParam("file") MultipartFile file) {
-        return service.massCreation(file);
+    public ImportSummaryDTO massCreation(@RequestParam("file") MultipartFile file) {
+        ImportSummaryDTO summary = service.massCreation(file);
+        if (summary.getRejectsFile() != null) {
+            summary.setRejectsUri(ServletUriComponentsBuilder.fromCurrentContextPath()
+                    .path("/api/v1/file/downloadFile/")
+                    .path(summary.getRejectsFile())
+                    .toUriString());
+        }
+        return summary;
     }
 
     @PutMapping(
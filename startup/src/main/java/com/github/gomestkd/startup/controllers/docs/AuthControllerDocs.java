@@ -7,6 +7,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 
 public interface AuthControllerDocs {
 
@@ -29,6 +30,7 @@ public interface AuthControllerDocs {
                     ),
                     @ApiResponse(responseCode = "400", description = "Invalid request body", content = @Content),
                     @ApiResponse(responseCode = "401", description = "Invalid credentials", content = @Content),
+                    @ApiResponse(responseCode = "429", description = "Too many sign-in requests in progress", content = @Content),
                     @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
             }
     )
@@ -66,6 +68,19 @@ public interface AuthControllerDocs {
             String refreshToken
     );
 
+    @Operation(
+            summary = "Sign out",
+            description = "Revokes every access and refresh token issued to the authenticated user so far. " +
+                    "Tokens issued by a new sign-in remain valid.",
+            tags = {"Authentication Endpoint"},
+            responses = {
+                    @ApiResponse(responseCode = "204", description = "Tokens revoked", content = @Content),
+                    @ApiResponse(responseCode = "403", description = "Missing or invalid token", content = @Content),
+                    @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
+            }
+    )
+    ResponseEntity<Void> signout(@Parameter(hidden = true) Authentication authentication);
+
     @Operation(
             summary = "Register new user",
             description = "Creates a new user in the system. " +
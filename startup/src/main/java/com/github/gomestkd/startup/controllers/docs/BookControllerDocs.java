@@ -7,6 +7,7 @@ import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.MediaType;
@@ -42,7 +43,37 @@ public interface BookControllerDocs {
             @Parameter(description = "Page size", example = "12")
             @RequestParam(value = "size", defaultValue = "12") Integer size,
             @Parameter(description = "Sorting direction: asc or desc", example = "asc")
-            @RequestParam(value = "direction", defaultValue = "asc") String direction
+            @RequestParam(value = "direction", defaultValue = "asc") String direction,
+            @Parameter(description = "Run the exact count query; when false only next/prev links are returned", example = "true")
+            @RequestParam(value = "withTotal", defaultValue = "true") Boolean withTotal,
+            @Parameter(description = "With withTotal=false, report the planner's row estimate as the total", example = "false")
+            @RequestParam(value = "approximateTotal", defaultValue = "false") Boolean approximateTotal
+    );
+
+    @Operation(
+            summary = "Get all books (cursor-based)",
+            description = "Retrieves books ordered by title using keyset pagination. " +
+                    "Follow the 'next' link to get the following page; no total count is computed.",
+            tags = {"Books"},
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Books retrieved successfully",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = BookDTO.class))
+                            )
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            }
+    )
+    ResponseEntity<CollectionModel<BookDTO>> findAllByCursor(
+            @Parameter(description = "Opaque continuation token from a previous 'next' link")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Page size", example = "12")
+            @RequestParam(value = "size", defaultValue = "12") Integer size
     );
 
     @Operation(
@@ -1,10 +1,12 @@
 package com.github.gomestkd.startup.controllers.docs;
 
+import com.github.gomestkd.startup.data.dto.EmailBatchDTO;
+import com.github.gomestkd.startup.data.dto.EmailOutboxDTO;
+import com.github.gomestkd.startup.data.dto.request.EmailBatchRequestDTO;
 import com.github.gomestkd.startup.data.dto.request.EmailRequestDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
-import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import org.springframework.http.ResponseEntity;
@@ -14,49 +16,83 @@ public interface EmailControllerDocs {
 
     @Operation(
             summary = "Send e-mail",
-            description = "Sends a simple email with subject and body.",
+            description = "Queues a simple email with subject and body. It is delivered in the background, " +
+                    "follow the Location header to check its status.",
             tags = {"E-mail"},
             responses = {
                     @ApiResponse(
-                            responseCode = "200",
-                            description = "E-mail sent successfully",
-                            content = @Content(
-                                    schema = @Schema(implementation = String.class),
-                                    examples = @ExampleObject(value = "Email sent successfully to john.doe@example.com")
-                            )
+                            responseCode = "202",
+                            description = "E-mail queued for delivery",
+                            content = @Content(schema = @Schema(implementation = EmailOutboxDTO.class))
                     ),
                     @ApiResponse(responseCode = "400", description = "Invalid e-mail request"),
                     @ApiResponse(responseCode = "401", description = "Unauthorized"),
                     @ApiResponse(responseCode = "500", description = "Internal server error")
             }
     )
-    ResponseEntity<String> sendEmail(
+    ResponseEntity<EmailOutboxDTO> sendEmail(
             @Parameter(description = "E-mail request data", required = true)
             EmailRequestDTO emailRequestDTO
     );
 
     @Operation(
             summary = "Send e-mail with attachment",
-            description = "Sends an email with subject, body and file attachment.",
+            description = "Queues an email with subject, body and file attachment. It is delivered in the background, " +
+                    "follow the Location header to check its status.",
             tags = {"E-mail"},
             responses = {
                     @ApiResponse(
-                            responseCode = "200",
-                            description = "E-mail with attachment sent successfully",
-                            content = @Content(
-                                    schema = @Schema(implementation = String.class),
-                                    examples = @ExampleObject(value = "Email with attachment sent successfully to john.doe@example.com")
-                            )
+                            responseCode = "202",
+                            description = "E-mail with attachment queued for delivery",
+                            content = @Content(schema = @Schema(implementation = EmailOutboxDTO.class))
                     ),
                     @ApiResponse(responseCode = "400", description = "Invalid e-mail request"),
                     @ApiResponse(responseCode = "401", description = "Unauthorized"),
                     @ApiResponse(responseCode = "500", description = "Internal server error")
             }
     )
-    ResponseEntity<String> sendEmailWithAttachment(
+    ResponseEntity<EmailOutboxDTO> sendEmailWithAttachment(
             @Parameter(description = "E-mail request JSON", example = "{ \"to\": \"john.doe@example.com\", \"subject\": \"Report\", \"body\": \"Attached file.\" }")
             String emailRequestJson,
             @Parameter(description = "Attachment file", required = true)
             MultipartFile multipartFile
     );
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "Send e-mail batch",
+            description = "Queues one e-mail per recipient with the same subject and body, for newsletter-sized lists. " +
+                    "Duplicate recipients are sent once; the batch is rejected as a whole if any address is invalid.",
+            tags = {"E-mail"},
+            responses = {
+                    @ApiResponse(
+                            responseCode = "202",
+                            description = "E-mails queued for delivery",
+                            content = @Content(schema = @Schema(implementation = EmailBatchDTO.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Invalid batch request"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            }
+    )
+    ResponseEntity<EmailBatchDTO> sendBatch(
+            @Parameter(description = "Recipients, subject and body", required = true)
+            EmailBatchRequestDTO batchRequest
+    );
+
+    @Operation(
+            summary = "Get e-mail delivery status",
+            description = "Returns the delivery status of a queued e-mail: PENDING, SENDING, SENT or FAILED.",
+            tags = {"E-mail"},
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(schema = @Schema(implementation = EmailOutboxDTO.class))
+                    ),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                    @ApiResponse(responseCode = "404", description = "E-mail not found"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            }
+    )
+    EmailOutboxDTO getEmailStatus(@Parameter(description = "E-mail ID", required = true) Long id);
+}
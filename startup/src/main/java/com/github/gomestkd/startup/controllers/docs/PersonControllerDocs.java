@@ -1,5 +1,7 @@
 package com.github.gomestkd.startup.controllers.docs;
 
+import com.github.gomestkd.startup.data.dto.ExportJobDTO;
+import com.github.gomestkd.startup.data.dto.ImportSummaryDTO;
 import com.github.gomestkd.startup.data.dto.PersonDTO;
 import com.github.gomestkd.startup.file.exporter.MediaTypes;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,6 +12,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.core.io.Resource;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.MediaType;
@@ -18,8 +21,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.multipart.MultipartFile;
-
-import java.util.Set;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 public interface PersonControllerDocs {
 
@@ -48,7 +50,11 @@ public interface PersonControllerDocs {
             @Parameter(description = "Page size", example = "12")
             @RequestParam(value = "size", defaultValue = "12") Integer size,
             @Parameter(description = "Sorting direction: asc or desc", example = "asc")
-            @RequestParam(value = "direction", defaultValue = "asc") String direction
+            @RequestParam(value = "direction", defaultValue = "asc") String direction,
+            @Parameter(description = "Run the exact count query; when false only next/prev links are returned", example = "true")
+            @RequestParam(value = "withTotal", defaultValue = "true") Boolean withTotal,
+            @Parameter(description = "With withTotal=false, report the planner's row estimate as the total", example = "false")
+            @RequestParam(value = "approximateTotal", defaultValue = "false") Boolean approximateTotal
     );
 
     @Operation(
@@ -76,28 +82,121 @@ public interface PersonControllerDocs {
             HttpServletRequest request
     );
 
+    @Operation(
+            summary = "Submit a people export job",
+            description = "Queues the export of a people page and returns immediately with the job ID. Poll the job status and download the file once it is completed.",
+            tags = {"People"},
+            responses = {
+                    @ApiResponse(
+                            responseCode = "202",
+                            description = "Export job accepted",
+                            content = @Content(schema = @Schema(implementation = ExportJobDTO.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Unsupported file format"),
+                    @ApiResponse(responseCode = "429", description = "Too many export jobs in progress"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            }
+    )
+    ResponseEntity<ExportJobDTO> submitExportJob(
+            @Parameter(description = "Page number", example = "0") @RequestParam(value = "page", defaultValue = "0") Integer page,
+            @Parameter(description = "Page size", example = "12") @RequestParam(value = "size", defaultValue = "12") Integer size,
+            @Parameter(description = "Sorting direction", example = "asc") @RequestParam(value = "direction", defaultValue = "asc") String direction,
+            @Parameter(description = "Media type of the generated file", example = MediaTypes.APPLICATION_PDF_VALUE) @RequestParam(value = "format") String format
+    );
+
+    @Operation(
+            summary = "Get an export job",
+            description = "Returns the status of an export job and, once completed, the URI to download its file.",
+            tags = {"People"},
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Export job found",
+                            content = @Content(schema = @Schema(implementation = ExportJobDTO.class))
+                    ),
+                    @ApiResponse(responseCode = "404", description = "Export job not found"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            }
+    )
+    ExportJobDTO getExportJob(@Parameter(description = "Export job ID") @PathVariable("jobId") String jobId);
+
+    @Operation(
+            summary = "Download the file of an export job",
+            description = "Downloads the file generated by a completed export job.",
+            tags = {"People"},
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "File downloaded successfully",
+                            content = {
+                                    @Content(mediaType = MediaTypes.APPLICATION_PDF_VALUE),
+                                    @Content(mediaType = MediaTypes.APPLICATION_XLSX_VALUE),
+                                    @Content(mediaType = MediaTypes.APPLICATION_CSV_VALUE)
+                            }
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Export job is not completed"),
+                    @ApiResponse(responseCode = "404", description = "Export job not found"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            }
+    )
+    ResponseEntity<Resource> downloadExportJob(@Parameter(description = "Export job ID") @PathVariable("jobId") String jobId);
+
+    @Operation(
+            summary = "Cancel an export job",
+            description = "Cancels a queued or running export job, or discards a finished one together with its file.",
+            tags = {"People"},
+            responses = {
+                    @ApiResponse(responseCode = "204", description = "Export job cancelled", content = @Content),
+                    @ApiResponse(responseCode = "404", description = "Export job not found"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            }
+    )
+    ResponseEntity<Void> cancelExportJob(@Parameter(description = "Export job ID") @PathVariable("jobId") String jobId);
+
+    @Operation(
+            summary = "Export all people as a stream",
+            description = "Streams every person as CSV or XLSX straight to the response, without loading the whole table in memory.",
+            tags = {"People"},
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "File streamed successfully",
+                            content = {
+                                    @Content(mediaType = MediaTypes.APPLICATION_CSV_VALUE),
+                                    @Content(mediaType = MediaTypes.APPLICATION_XLSX_VALUE)
+                            }
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Unsupported file format"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            }
+    )
+    ResponseEntity<StreamingResponseBody> exportAll(
+            @Parameter(description = "Sorting direction", example = "asc") @RequestParam(value = "direction", defaultValue = "asc") String direction,
+            HttpServletRequest request
+    );
+
     @Operation(
             summary = "Massive people creation",
-            description = "Creates multiple people by uploading a CSV or XLSX file.",
+            description = "Creates multiple people by uploading a CSV or XLSX file. Invalid rows are skipped and reported, with a downloadable rejects file.",
             tags = {"People"},
             responses = {
                     @ApiResponse(
                             responseCode = "200",
                             description = "People created successfully",
-                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = PersonDTO.class)))
+                            content = @Content(schema = @Schema(implementation = ImportSummaryDTO.class))
                     ),
                     @ApiResponse(responseCode = "400", description = "Invalid file format"),
                     @ApiResponse(responseCode = "500", description = "Internal server error")
             }
     )
-    Set<PersonDTO> massCreation(
+    ImportSummaryDTO massCreation(
             @Parameter(description = "CSV or XLSX file containing people data", required = true)
             MultipartFile file
     );
 
     @Operation(
-            summary = "Find people by first name",
-            description = "Retrieves people whose first name matches the given value.",
+            summary = "Find people by name",
+            description = "Retrieves people whose first name (and optionally last name) contains the given value, ignoring case.",
             tags = {"People"},
             responses = {
                     @ApiResponse(
@@ -114,7 +213,9 @@ public interface PersonControllerDocs {
             @PathVariable("firstName") String firstName,
             @RequestParam(value = "page", defaultValue = "0") Integer page,
             @RequestParam(value = "size", defaultValue = "12") Integer size,
-            @RequestParam(value = "direction", defaultValue = "asc") String direction
+            @RequestParam(value = "direction", defaultValue = "asc") String direction,
+            @Parameter(description = "Also match the last name", example = "false")
+            @RequestParam(value = "includeLastName", defaultValue = "false") Boolean includeLastName
     );
 
     @Operation(
@@ -132,6 +233,32 @@ public interface PersonControllerDocs {
             HttpServletRequest request
     );
 
+    @Operation(
+            summary = "Get all people (cursor-based)",
+            description = "Retrieves people ordered by first name using keyset pagination. " +
+                    "Follow the 'next' link to get the following page; no total count is computed.",
+            tags = {"People"},
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "People retrieved successfully",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = PersonDTO.class))
+                            )
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            }
+    )
+    ResponseEntity<CollectionModel<PersonDTO>> findAllByCursor(
+            @Parameter(description = "Opaque continuation token from a previous 'next' link")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Page size", example = "12")
+            @RequestParam(value = "size", defaultValue = "12") Integer size
+    );
+
     @Operation(
             summary = "Get person by ID",
             description = "Retrieves details of a specific person by ID.",
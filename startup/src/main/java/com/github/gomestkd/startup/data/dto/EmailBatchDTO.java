@@ -0,0 +1,44 @@
+package com.github.gomestkd.startup.data.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Objects;
+
+public class EmailBatchDTO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @JsonProperty("queued")
+    private int queued;
+
+    public EmailBatchDTO() {}
+
+    public EmailBatchDTO(int queued) {
+        this.queued = queued;
+    }
+
+    public int getQueued() { return queued; }
+    public void setQueued(int queued) { this.queued = queued; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EmailBatchDTO that)) return false;
+        return queued == that.queued;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(queued);
+    }
+
+    @Override
+    public String toString() {
+        return "EmailBatchDTO{" +
+                "queued=" + queued +
+                '}';
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.gomestkd.startup.data.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.github.gomestkd.startup.model.EmailOutboxMessage.Status;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"id", "status", "attempts", "last_error", "created_at", "next_attempt_at", "sent_at"})
+public class EmailOutboxDTO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @JsonProperty("id")
+    private Long id;
+
+    @JsonProperty("status")
+    private Status status;
+
+    @JsonProperty("attempts")
+    private int attempts;
+
+    @JsonProperty("last_error")
+    private String lastError;
+
+    @JsonProperty("created_at")
+    private Instant createdAt;
+
+    @JsonProperty("next_attempt_at")
+    private Instant nextAttemptAt;
+
+    @JsonProperty("sent_at")
+    private Instant sentAt;
+
+    public EmailOutboxDTO() {}
+
+    public EmailOutboxDTO(Long id, Status status, int attempts, String lastError,
+                          Instant createdAt, Instant nextAttemptAt, Instant sentAt) {
+        this.id = id;
+        this.status = status;
+        this.attempts = attempts;
+        this.lastError = lastError;
+        this.createdAt = createdAt;
+        this.nextAttemptAt = nextAttemptAt;
+        this.sentAt = sentAt;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+
+    public Instant getNextAttemptAt() { return nextAttemptAt; }
+    public void setNextAttemptAt(Instant nextAttemptAt) { this.nextAttemptAt = nextAttemptAt; }
+
+    public Instant getSentAt() { return sentAt; }
+    public void setSentAt(Instant sentAt) { this.sentAt = sentAt; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EmailOutboxDTO that)) return false;
+        return attempts == that.attempts &&
+                Objects.equals(id, that.id) &&
+                status == that.status &&
+                Objects.equals(lastError, that.lastError) &&
+                Objects.equals(createdAt, that.createdAt) &&
+                Objects.equals(nextAttemptAt, that.nextAttemptAt) &&
+                Objects.equals(sentAt, that.sentAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, status, attempts, lastError, createdAt, nextAttemptAt, sentAt);
+    }
+
+    @Override
+    public String toString() {
+        return "EmailOutboxDTO{" +
+                "id=" + id +
+                ", status=" + status +
+                ", attempts=" + attempts +
+                ", lastError='" + lastError + '\'' +
+                ", createdAt=" + createdAt +
+                ", nextAttemptAt=" + nextAttemptAt +
+                ", sentAt=" + sentAt +
+                '}';
+    }
+}
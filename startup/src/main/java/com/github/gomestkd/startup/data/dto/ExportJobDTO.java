@@ -0,0 +1,106 @@
+package com.github.gomestkd.startup.data.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"job_id", "status", "content_type", "download_uri", "error", "created_at", "finished_at"})
+public class ExportJobDTO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED }
+
+    @JsonProperty("job_id")
+    private String jobId;
+
+    @JsonProperty("status")
+    private Status status;
+
+    @JsonProperty("content_type")
+    private String contentType;
+
+    @JsonProperty("download_uri")
+    private String downloadUri;
+
+    @JsonProperty("error")
+    private String error;
+
+    @JsonProperty("created_at")
+    private Instant createdAt;
+
+    @JsonProperty("finished_at")
+    private Instant finishedAt;
+
+    public ExportJobDTO() {}
+
+    public ExportJobDTO(String jobId, Status status, String contentType, String downloadUri,
+                        String error, Instant createdAt, Instant finishedAt) {
+        this.jobId = jobId;
+        this.status = status;
+        this.contentType = contentType;
+        this.downloadUri = downloadUri;
+        this.error = error;
+        this.createdAt = createdAt;
+        this.finishedAt = finishedAt;
+    }
+
+    public String getJobId() { return jobId; }
+    public void setJobId(String jobId) { this.jobId = jobId; }
+
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+
+    public String getContentType() { return contentType; }
+    public void setContentType(String contentType) { this.contentType = contentType; }
+
+    public String getDownloadUri() { return downloadUri; }
+    public void setDownloadUri(String downloadUri) { this.downloadUri = downloadUri; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+
+    public Instant getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(Instant finishedAt) { this.finishedAt = finishedAt; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ExportJobDTO that)) return false;
+        return Objects.equals(jobId, that.jobId) &&
+                status == that.status &&
+                Objects.equals(contentType, that.contentType) &&
+                Objects.equals(downloadUri, that.downloadUri) &&
+                Objects.equals(error, that.error) &&
+                Objects.equals(createdAt, that.createdAt) &&
+                Objects.equals(finishedAt, that.finishedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(jobId, status, contentType, downloadUri, error, createdAt, finishedAt);
+    }
+
+    @Override
+    public String toString() {
+        return "ExportJobDTO{" +
+                "jobId='" + jobId + '\'' +
+                ", status=" + status +
+                ", contentType='" + contentType + '\'' +
+                ", downloadUri='" + downloadUri + '\'' +
+                ", error='" + error + '\'' +
+                ", createdAt=" + createdAt +
+                ", finishedAt=" + finishedAt +
+                '}';
+    }
+}
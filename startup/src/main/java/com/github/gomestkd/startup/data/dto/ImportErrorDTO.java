@@ -0,0 +1,64 @@
+package com.github.gomestkd.startup.data.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Objects;
+
+@JsonPropertyOrder({"line", "column", "message"})
+public class ImportErrorDTO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @JsonProperty("line")
+    private long line;
+
+    @JsonProperty("column")
+    private String column;
+
+    @JsonProperty("message")
+    private String message;
+
+    public ImportErrorDTO() {}
+
+    public ImportErrorDTO(long line, String column, String message) {
+        this.line = line;
+        this.column = column;
+        this.message = message;
+    }
+
+    public long getLine() { return line; }
+    public void setLine(long line) { this.line = line; }
+
+    public String getColumn() { return column; }
+    public void setColumn(String column) { this.column = column; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ImportErrorDTO that)) return false;
+        return line == that.line &&
+                Objects.equals(column, that.column) &&
+                Objects.equals(message, that.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(line, column, message);
+    }
+
+    @Override
+    public String toString() {
+        return "ImportErrorDTO{" +
+                "line=" + line +
+                ", column='" + column + '\'' +
+                ", message='" + message + '\'' +
+                '}';
+    }
+}
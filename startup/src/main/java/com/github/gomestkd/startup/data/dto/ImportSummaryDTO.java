@@ -0,0 +1,114 @@
+package com.github.gomestkd.startup.data.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"file_name", "accepted", "rejected", "elapsed_millis", "rejects_file", "rejects_uri",
+        "errors", "errors_truncated"})
+public class ImportSummaryDTO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @JsonProperty("file_name")
+    private String fileName;
+
+    @JsonProperty("accepted")
+    private long accepted;
+
+    @JsonProperty("rejected")
+    private long rejected;
+
+    @JsonProperty("elapsed_millis")
+    private long elapsedMillis;
+
+    @JsonProperty("rejects_file")
+    private String rejectsFile;
+
+    @JsonProperty("rejects_uri")
+    private String rejectsUri;
+
+    @JsonProperty("errors")
+    private List<ImportErrorDTO> errors = new ArrayList<>();
+
+    @JsonProperty("errors_truncated")
+    private boolean errorsTruncated;
+
+    public ImportSummaryDTO() {}
+
+    public ImportSummaryDTO(String fileName, long accepted, long rejected, long elapsedMillis, String rejectsFile,
+                            List<ImportErrorDTO> errors, boolean errorsTruncated) {
+        this.fileName = fileName;
+        this.accepted = accepted;
+        this.rejected = rejected;
+        this.elapsedMillis = elapsedMillis;
+        this.rejectsFile = rejectsFile;
+        this.errors = errors;
+        this.errorsTruncated = errorsTruncated;
+    }
+
+    public String getFileName() { return fileName; }
+    public void setFileName(String fileName) { this.fileName = fileName; }
+
+    public long getAccepted() { return accepted; }
+    public void setAccepted(long accepted) { this.accepted = accepted; }
+
+    public long getRejected() { return rejected; }
+    public void setRejected(long rejected) { this.rejected = rejected; }
+
+    public long getElapsedMillis() { return elapsedMillis; }
+    public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+
+    public String getRejectsFile() { return rejectsFile; }
+    public void setRejectsFile(String rejectsFile) { this.rejectsFile = rejectsFile; }
+
+    public String getRejectsUri() { return rejectsUri; }
+    public void setRejectsUri(String rejectsUri) { this.rejectsUri = rejectsUri; }
+
+    public List<ImportErrorDTO> getErrors() { return errors; }
+    public void setErrors(List<ImportErrorDTO> errors) { this.errors = errors; }
+
+    public boolean isErrorsTruncated() { return errorsTruncated; }
+    public void setErrorsTruncated(boolean errorsTruncated) { this.errorsTruncated = errorsTruncated; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ImportSummaryDTO that)) return false;
+        return accepted == that.accepted &&
+                rejected == that.rejected &&
+                elapsedMillis == that.elapsedMillis &&
+                errorsTruncated == that.errorsTruncated &&
+                Objects.equals(fileName, that.fileName) &&
+                Objects.equals(rejectsFile, that.rejectsFile) &&
+                Objects.equals(rejectsUri, that.rejectsUri) &&
+                Objects.equals(errors, that.errors);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fileName, accepted, rejected, elapsedMillis, rejectsFile, rejectsUri, errors, errorsTruncated);
+    }
+
+    @Override
+    public String toString() {
+        return "ImportSummaryDTO{" +
+                "fileName='" + fileName + '\'' +
+                ", accepted=" + accepted +
+                ", rejected=" + rejected +
+                ", elapsedMillis=" + elapsedMillis +
+                ", rejectsFile='" + rejectsFile + '\'' +
+                ", rejectsUri='" + rejectsUri + '\'' +
+                ", errors=" + errors +
+                ", errorsTruncated=" + errorsTruncated +
+                '}';
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.gomestkd.startup.data.dto.request;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class EmailBatchRequestDTO {
+    private List<String> recipients = new ArrayList<>();
+    private String subject;
+    private String body;
+
+    public EmailBatchRequestDTO() {
+    }
+
+    public EmailBatchRequestDTO(List<String> recipients, String subject, String body) {
+        this.recipients = recipients;
+        this.subject = subject;
+        this.body = body;
+    }
+
+    public List<String> getRecipients() {
+        return recipients;
+    }
+    public void setRecipients(List<String> recipients) {
+        this.recipients = recipients;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    public String getBody() {
+        return body;
+    }
+    public void setBody(String body) {
+        this.body = body;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof EmailBatchRequestDTO that)) return false;
+        return Objects.equals(getRecipients(), that.getRecipients()) && Objects.equals(getSubject(), that.getSubject()) && Objects.equals(getBody(), that.getBody());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getRecipients(), getSubject(), getBody());
+    }
+
+    @Override
+    public String toString() {
+        return "EmailBatchRequestDTO{" +
+                "recipients=" + (recipients == null ? 0 : recipients.size()) +
+                ", subject='" + subject + '\'' +
+                '}';
+    }
+}
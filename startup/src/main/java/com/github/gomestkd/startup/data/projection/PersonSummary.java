@@ -0,0 +1,17 @@
+package com.github.gomestkd.startup.data.projection;
+
+/**
+ * Read-only view of the {@code person} columns shown by the list and search endpoints.
+ * Selected through a JPQL constructor expression, so no managed {@code Person} is created.
+ */
+public record PersonSummary(
+        Long id,
+        String firstName,
+        String lastName,
+        String address,
+        String gender,
+        Boolean enabled,
+        String profileUrl,
+        String photoUrl
+) {
+}
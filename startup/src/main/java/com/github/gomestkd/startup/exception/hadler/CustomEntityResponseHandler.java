@@ -77,4 +77,13 @@ public class CustomEntityResponseHandler extends ResponseEntityExceptionHandler
                 request.getDescription(false));
         return new ResponseEntity<>(response, HttpStatus.FORBIDDEN);
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public final ResponseEntity<ExceptionResponse> handleTooManyRequestsExceptions(Exception ex, WebRequest request) {
+        ExceptionResponse response = new ExceptionResponse(
+                new Date(),
+                ex.getMessage(),
+                request.getDescription(false));
+        return new ResponseEntity<>(response, HttpStatus.TOO_MANY_REQUESTS);
+    }
+}
@@ -0,0 +1,11 @@
+package com.github.gomestkd.startup.file.exporter.contract;
+
+import com.github.gomestkd.startup.data.dto.PersonDTO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+public interface PersonStreamExporter {
+    void exportPeople(Stream<PersonDTO> people, OutputStream outputStream) throws IOException;
+}
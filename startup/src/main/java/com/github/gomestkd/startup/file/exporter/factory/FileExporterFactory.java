@@ -3,6 +3,7 @@ package com.github.gomestkd.startup.file.exporter.factory;
 import com.github.gomestkd.startup.exception.BadRequestException;
 import com.github.gomestkd.startup.file.exporter.MediaTypes;
 import com.github.gomestkd.startup.file.exporter.contract.PersonExporter;
+import com.github.gomestkd.startup.file.exporter.contract.PersonStreamExporter;
 import com.github.gomestkd.startup.file.exporter.implementation.CsvExporter;
 import com.github.gomestkd.startup.file.exporter.implementation.PdfExporter;
 import com.github.gomestkd.startup.file.exporter.implementation.XlsxExporter;
@@ -40,4 +41,21 @@ public class FileExporterFactory {
             throw new BadRequestException("Invalid File Format!");
         }
     }
+
+    public PersonStreamExporter getPersonStreamExporter(String acceptHeader) {
+        logger.debug("Attempting to find streaming person exporter for media type: '{}'", acceptHeader);
+        if (acceptHeader != null && acceptHeader.equalsIgnoreCase(MediaTypes.APPLICATION_CSV_VALUE)) {
+            logger.info("Streaming CSV exporter selected for media type: '{}'", acceptHeader);
+            return applicationContext.getBean(CsvExporter.class);
+        } else if (acceptHeader != null && acceptHeader.equalsIgnoreCase(MediaTypes.APPLICATION_XLSX_VALUE)) {
+            logger.info("Streaming XLSX exporter selected for media type: '{}'", acceptHeader);
+            return applicationContext.getBean(XlsxExporter.class);
+        } else if (acceptHeader != null && acceptHeader.equalsIgnoreCase(MediaTypes.APPLICATION_PDF_VALUE)) {
+            logger.info("Streaming PDF exporter selected for media type: '{}'", acceptHeader);
+            return applicationContext.getBean(PdfExporter.class);
+        } else {
+            logger.warn("No suitable streaming exporter found for media type: '{}'. Throwing BadRequestException.", acceptHeader);
+            throw new BadRequestException("Invalid File Format!");
+        }
+    }
 }
\ No newline at end of file
@@ -2,22 +2,34 @@ package com.github.gomestkd.startup.file.exporter.implementation;
 
 import com.github.gomestkd.startup.data.dto.PersonDTO;
 import com.github.gomestkd.startup.file.exporter.contract.PersonExporter;
+import com.github.gomestkd.startup.file.exporter.contract.PersonStreamExporter;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
 
+import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
 import java.util.Set;
+import java.util.stream.Stream;
 
-public class CsvExporter implements PersonExporter {
+@Component
+public class CsvExporter implements PersonExporter, PersonStreamExporter {
     private static final Logger logger = LoggerFactory.getLogger(CsvExporter.class);
 
+    private static final CSVFormat CSV_FORMAT = CSVFormat.Builder.create()
+            .setHeader("ID", "First Name", "Last Name", "Address", "Gender", "Enabled")
+            .setSkipHeaderRecord(false)
+            .build();
+
     @Override
     public Resource exportPeople(Set<PersonDTO> people) throws IOException {
         logger.debug("Starting CSV export for {} person(s).", people.size());
@@ -25,21 +37,9 @@ public class CsvExporter implements PersonExporter {
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         OutputStreamWriter writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
 
-        CSVFormat csvFormat = CSVFormat.Builder.create()
-                .setHeader("ID", "First Name", "Last Name", "Address", "Gender", "Enabled")
-                .setSkipHeaderRecord(false)
-                .build();
-
-        try (CSVPrinter printer = new CSVPrinter(writer, csvFormat)) {
+        try (CSVPrinter printer = new CSVPrinter(writer, CSV_FORMAT)) {
             for (PersonDTO person : people) {
-                printer.printRecord(
-                        person.getId(),
-                        person.getFirstName(),
-                        person.getLastName(),
-                        person.getAddress(),
-                        person.getGender(),
-                        person.getEnabled()
-                );
+                printRecord(printer, person);
             }
         } catch (IOException e) {
             logger.error("Failed to write data to CSV stream.", e);
@@ -53,6 +53,40 @@ public class CsvExporter implements PersonExporter {
         return new ByteArrayResource(data);
     }
 
+    @Override
+    public void exportPeople(Stream<PersonDTO> people, OutputStream outputStream) throws IOException {
+        logger.debug("Starting streaming CSV export.");
+
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        CSVPrinter printer = new CSVPrinter(writer, CSV_FORMAT);
+        long count = 0;
+
+        try {
+            Iterator<PersonDTO> iterator = people.iterator();
+            while (iterator.hasNext()) {
+                printRecord(printer, iterator.next());
+                count++;
+            }
+            printer.flush();
+        } catch (IOException e) {
+            logger.error("Failed to stream CSV data after {} record(s).", count, e);
+            throw e;
+        }
+
+        logger.info("Streaming CSV export completed successfully. Records written: {}.", count);
+    }
+
+    private void printRecord(CSVPrinter printer, PersonDTO person) throws IOException {
+        printer.printRecord(
+                person.getId(),
+                person.getFirstName(),
+                person.getLastName(),
+                person.getAddress(),
+                person.getGender(),
+                person.getEnabled()
+        );
+    }
+
     @Override
     public Resource exportPerson(PersonDTO person) throws IOException {
         logger.warn("Method 'exportPerson' was called, but it is not implemented.");
@@ -2,12 +2,13 @@ package com.github.gomestkd.startup.file.exporter.implementation;
 
 import com.github.gomestkd.startup.data.dto.PersonDTO;
 import com.github.gomestkd.startup.file.exporter.contract.PersonExporter;
+import com.github.gomestkd.startup.file.exporter.contract.PersonStreamExporter;
+import com.github.gomestkd.startup.file.exporter.report.ReportTemplateRegistry;
 import com.github.gomestkd.startup.services.QRCodeService;
 import net.sf.jasperreports.engine.*;
 import net.sf.jasperreports.engine.data.JRBeanCollectionDataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
@@ -15,38 +16,43 @@ import org.springframework.stereotype.Component;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
+/**
+ * Jasper fills the whole report before it can be written, so the streaming variant still holds every row of
+ * the report in memory; it only saves the copy of the finished PDF. Use it for bounded exports such as a page.
+ */
 @Component
-public class PdfExporter implements PersonExporter {
+public class PdfExporter implements PersonExporter, PersonStreamExporter {
     private static final Logger logger = LoggerFactory.getLogger(PdfExporter.class);
 
+    private static final String PEOPLE_TEMPLATE = "people";
+    private static final String PERSON_TEMPLATE = "person";
+    private static final String BOOKS_TEMPLATE = "books";
+
     private final QRCodeService qrCodeService;
+    private final ReportTemplateRegistry templateRegistry;
 
-    public PdfExporter(QRCodeService qrCodeService) {
+    public PdfExporter(QRCodeService qrCodeService, ReportTemplateRegistry templateRegistry) {
         this.qrCodeService = qrCodeService;
+        this.templateRegistry = templateRegistry;
     }
 
     @Override
     public Resource exportPeople(Set<PersonDTO> people) throws IOException {
         logger.debug("Starting PDF export for a list of {} people.", people.size());
 
-        final String templatePath = "templates/people_report.jrxml";
-
-        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(templatePath)) {
-            if (inputStream == null) {
-                logger.error("Template file not found at path: {}", templatePath);
-                throw new RuntimeException("Template file not found: " + templatePath);
-            }
-
-            JasperReport jasperReport = JasperCompileManager.compileReport(inputStream);
+        try {
             JRBeanCollectionDataSource dataSource = new JRBeanCollectionDataSource(people);
             Map<String, Object> parameters = new HashMap<>();
 
-            JasperPrint jasperPrint = JasperFillManager.fillReport(jasperReport, parameters, dataSource);
+            JasperPrint jasperPrint = templateRegistry.fill(PEOPLE_TEMPLATE, parameters, dataSource);
 
             try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()){
                 JasperExportManager.exportReportToPdfStream(jasperPrint, outputStream);
@@ -63,26 +69,27 @@ public class PdfExporter implements PersonExporter {
         }
     }
 
+    @Override
+    public void exportPeople(Stream<PersonDTO> people, OutputStream outputStream) throws IOException {
+        logger.debug("Starting streaming PDF export.");
+
+        List<PersonDTO> rows = people.toList();
+        try {
+            JasperPrint jasperPrint = templateRegistry.fill(PEOPLE_TEMPLATE, new HashMap<>(), new JRBeanCollectionDataSource(rows));
+            JasperExportManager.exportReportToPdfStream(jasperPrint, outputStream);
+            logger.info("Streaming PDF export completed successfully. Records written: {}.", rows.size());
+        } catch (JRException e) {
+            logger.error("Failed to stream people list to PDF.", e);
+            throw new IOException("An unexpected error occurred during PDF export.", e);
+        }
+    }
+
     @Override
     public Resource exportPerson(PersonDTO person) throws IOException {
         logger.debug("Starting PDF export for a single person with ID: {}", person.getId());
-        final String mainTemplatePath = "/templates/person.jrxml";
-        final String subReportPath = "/templates/books.jrxml";
-
-        try (InputStream mainTemplateStream = getClass().getResourceAsStream(mainTemplatePath);
-             InputStream subReportStream = getClass().getResourceAsStream(subReportPath)) {
-
-            if (mainTemplateStream == null) {
-                logger.error("Main template file not found at path: {}", mainTemplatePath);
-                throw new RuntimeException("Template file not found: " + mainTemplatePath);
-            }
-            if (subReportStream == null) {
-                logger.error("Sub-report template file not found at path: {}", subReportPath);
-                throw new RuntimeException("Subreport file not found: " + subReportPath);
-            }
 
-            JasperReport subReport = JasperCompileManager.compileReport(subReportStream);
-            JasperReport mainReport = JasperCompileManager.compileReport(mainTemplateStream);
+        try {
+            JasperReport subReport = templateRegistry.get(BOOKS_TEMPLATE);
 
             InputStream qrCodeStream = qrCodeService.createQRCode(person.getProfileUrl(), 200, 200);
             JRBeanCollectionDataSource subReportDataSource = new JRBeanCollectionDataSource(person.getBooks());
@@ -93,7 +100,7 @@ public class PdfExporter implements PersonExporter {
             parameters.put("QR_CODE_IMAGE", qrCodeStream);
 
             JRBeanCollectionDataSource mainReportDataSource = new JRBeanCollectionDataSource(Collections.singletonList(person));
-            JasperPrint jasperPrint = JasperFillManager.fillReport(mainReport, parameters, mainReportDataSource);
+            JasperPrint jasperPrint = templateRegistry.fill(PERSON_TEMPLATE, parameters, mainReportDataSource);
 
             try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
                 JasperExportManager.exportReportToPdfStream(jasperPrint, outputStream);
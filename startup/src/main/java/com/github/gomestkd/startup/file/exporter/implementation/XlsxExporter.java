@@ -2,64 +2,58 @@ package com.github.gomestkd.startup.file.exporter.implementation;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import com.github.gomestkd.startup.data.dto.PersonDTO;
 import com.github.gomestkd.startup.file.exporter.contract.PersonExporter;
+import com.github.gomestkd.startup.file.exporter.contract.PersonStreamExporter;
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 
 @Component
-public class XlsxExporter implements PersonExporter {
+public class XlsxExporter implements PersonExporter, PersonStreamExporter {
 
     private static final Logger logger = LoggerFactory.getLogger(XlsxExporter.class);
 
+    private static final String[] HEADERS = {"ID", "First Name", "Last Name", "Address", "Gender", "Enabled"};
+    // Larguras fixas (em caracteres) no lugar de autoSizeColumn, que mede todas as células.
+    private static final int[] COLUMN_WIDTHS = {10, 20, 20, 40, 10, 10};
+
+    private final int streamingThreshold;
+    private final int rowWindow;
+
+    public XlsxExporter(
+            @Value("${export.xlsx.streaming-threshold:5000}") int streamingThreshold,
+            @Value("${export.xlsx.row-window:100}") int rowWindow) {
+        this.streamingThreshold = streamingThreshold;
+        this.rowWindow = rowWindow;
+    }
+
     @Override
     public Resource exportPeople(Set<PersonDTO> people) throws IOException {
-        logger.debug("Starting XLSX export for {} person(s).", people.size());
+        boolean streaming = people.size() > streamingThreshold;
+        logger.debug("Starting {} XLSX export for {} person(s).", streaming ? "streaming" : "in-memory", people.size());
 
         // O try-with-resources garante que o Workbook seja fechado corretamente.
-        try (Workbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("People");
-
-            // Criação do cabeçalho
-            Row headerRow = sheet.createRow(0);
-            String[] headers = {"ID", "First Name", "Last Name", "Address", "Gender", "Enabled"};
-            for (int i = 0; i < headers.length; i++) {
-                Cell cell = headerRow.createCell(i);
-                cell.setCellValue(headers[i]);
-                cell.setCellStyle(createHeaderCellStyle(workbook));
-            }
-
-            // Preenchimento dos dados
-            int rowIndex = 1;
-            for (PersonDTO person : people) {
-                Row row = sheet.createRow(rowIndex++);
-                row.createCell(0).setCellValue(person.getId());
-                row.createCell(1).setCellValue(person.getFirstName());
-                row.createCell(2).setCellValue(person.getLastName());
-                row.createCell(3).setCellValue(person.getAddress());
-                row.createCell(4).setCellValue(person.getGender());
-                row.createCell(5).setCellValue(
-                        person.getEnabled() != null && person.getEnabled() ? "Yes" : "No");
-            }
-
-            for (int i = 0; i < headers.length; i++) {
-                sheet.autoSizeColumn(i);
-            }
+        try (Workbook workbook = streaming ? createStreamingWorkbook() : new XSSFWorkbook();
+             ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            writeSheet(workbook, people.iterator());
 
             // Escrita dos dados em memória
-            try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-                workbook.write(outputStream);
-                byte[] xlsxBytes = outputStream.toByteArray();
-                logger.info("XLSX export completed successfully. File size: {} bytes.", xlsxBytes.length);
-                return new ByteArrayResource(xlsxBytes);
-            }
+            workbook.write(outputStream);
+            byte[] xlsxBytes = outputStream.toByteArray();
+            logger.info("XLSX export completed successfully. File size: {} bytes.", xlsxBytes.length);
+            return new ByteArrayResource(xlsxBytes);
         } catch (IOException e) {
             logger.error("Failed to write data to XLSX workbook.", e);
             // Lança a exceção novamente após o log, para que a camada superior saiba do erro.
@@ -67,6 +61,59 @@ public class XlsxExporter implements PersonExporter {
         }
     }
 
+    @Override
+    public void exportPeople(Stream<PersonDTO> people, OutputStream outputStream) throws IOException {
+        logger.debug("Starting streaming XLSX export.");
+
+        try (SXSSFWorkbook workbook = createStreamingWorkbook()) {
+            int rows = writeSheet(workbook, people.iterator());
+            workbook.write(outputStream);
+            outputStream.flush();
+            logger.info("Streaming XLSX export completed successfully. Rows written: {}.", rows);
+        } catch (IOException e) {
+            logger.error("Failed to stream data to XLSX workbook.", e);
+            throw e;
+        }
+    }
+
+    // Só a janela de linhas fica em memória; as anteriores vão para um arquivo temporário compactado.
+    private SXSSFWorkbook createStreamingWorkbook() {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(rowWindow);
+        workbook.setCompressTempFiles(true);
+        return workbook;
+    }
+
+    private int writeSheet(Workbook workbook, Iterator<PersonDTO> people) {
+        Sheet sheet = workbook.createSheet("People");
+        for (int i = 0; i < COLUMN_WIDTHS.length; i++) {
+            sheet.setColumnWidth(i, COLUMN_WIDTHS[i] * 256);
+        }
+
+        // Criação do cabeçalho
+        CellStyle headerStyle = createHeaderCellStyle(workbook);
+        Row headerRow = sheet.createRow(0);
+        for (int i = 0; i < HEADERS.length; i++) {
+            Cell cell = headerRow.createCell(i);
+            cell.setCellValue(HEADERS[i]);
+            cell.setCellStyle(headerStyle);
+        }
+
+        // Preenchimento dos dados
+        int rowIndex = 1;
+        while (people.hasNext()) {
+            PersonDTO person = people.next();
+            Row row = sheet.createRow(rowIndex++);
+            row.createCell(0).setCellValue(person.getId());
+            row.createCell(1).setCellValue(person.getFirstName());
+            row.createCell(2).setCellValue(person.getLastName());
+            row.createCell(3).setCellValue(person.getAddress());
+            row.createCell(4).setCellValue(person.getGender());
+            row.createCell(5).setCellValue(
+                    person.getEnabled() != null && person.getEnabled() ? "Yes" : "No");
+        }
+        return rowIndex - 1;
+    }
+
     private CellStyle createHeaderCellStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
@@ -81,4 +128,4 @@ public class XlsxExporter implements PersonExporter {
         logger.warn("Method 'exportPerson' was called, but it is not implemented.");
         return null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,125 @@
+package com.github.gomestkd.startup.file.exporter.report;
+
+import com.github.gomestkd.startup.config.ReportConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import net.sf.jasperreports.engine.JRDataSource;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JasperCompileManager;
+import net.sf.jasperreports.engine.JasperFillManager;
+import net.sf.jasperreports.engine.JasperPrint;
+import net.sf.jasperreports.engine.JasperReport;
+import net.sf.jasperreports.engine.util.JRLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class ReportTemplateRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(ReportTemplateRegistry.class);
+
+    private final ReportConfig reportConfig;
+    private final ResourceLoader resourceLoader;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, CachedTemplate> templates = new ConcurrentHashMap<>();
+
+    public ReportTemplateRegistry(ReportConfig reportConfig, ResourceLoader resourceLoader, MeterRegistry meterRegistry) {
+        this.reportConfig = reportConfig;
+        this.resourceLoader = resourceLoader;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    protected void init() {
+        for (String name : reportConfig.getTemplates()) {
+            templates.put(name, load(name));
+        }
+        logger.info("Report templates loaded: {} (hot reload: {}).", templates.keySet(), reportConfig.isHotReload());
+    }
+
+    public JasperReport get(String name) {
+        CachedTemplate cached = templates.computeIfAbsent(name, this::load);
+        if (reportConfig.isHotReload() && cached.isStale()) {
+            logger.info("Template '{}' changed on disk. Reloading.", name);
+            cached = templates.compute(name, (key, current) ->
+                    current != null && !current.isStale() ? current : load(key));
+        }
+        return cached.report();
+    }
+
+    public JasperPrint fill(String name, Map<String, Object> parameters, JRDataSource dataSource) throws JRException {
+        JasperReport report = get(name);
+
+        long start = System.nanoTime();
+        JasperPrint print = JasperFillManager.fillReport(report, parameters, dataSource);
+        long elapsed = System.nanoTime() - start;
+
+        timer("report.fill", "Time spent filling a report template", name).record(elapsed, TimeUnit.NANOSECONDS);
+        logger.debug("Template '{}' filled in {} ms.", name, elapsed / 1_000_000);
+        return print;
+    }
+
+    private CachedTemplate load(String name) {
+        Resource source = resourceLoader.getResource(reportConfig.getTemplateLocation() + name + ".jrxml");
+        Resource compiled = resourceLoader.getResource(reportConfig.getTemplateLocation() + name + ".jasper");
+
+        long start = System.nanoTime();
+        try {
+            JasperReport report;
+            Resource origin;
+            if (source.exists()) {
+                try (InputStream inputStream = source.getInputStream()) {
+                    report = JasperCompileManager.compileReport(inputStream);
+                }
+                origin = source;
+            } else if (compiled.exists()) {
+                try (InputStream inputStream = compiled.getInputStream()) {
+                    report = (JasperReport) JRLoader.loadObject(inputStream);
+                }
+                origin = compiled;
+            } else {
+                logger.error("Template file not found for report: {}", name);
+                throw new RuntimeException("Template file not found: " + name);
+            }
+
+            long elapsed = System.nanoTime() - start;
+            timer("report.compile", "Time spent compiling or loading a report template", name).record(elapsed, TimeUnit.NANOSECONDS);
+            logger.info("Template '{}' loaded from {} in {} ms.", name, origin.getDescription(), elapsed / 1_000_000);
+            return new CachedTemplate(report, origin, lastModified(origin));
+        } catch (JRException | IOException e) {
+            logger.error("Failed to compile report template '{}'.", name, e);
+            throw new RuntimeException("Could not compile report template: " + name, e);
+        }
+    }
+
+    private Timer timer(String metric, String description, String template) {
+        return Timer.builder(metric)
+                .description(description)
+                .tag("template", template)
+                .register(meterRegistry);
+    }
+
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private record CachedTemplate(JasperReport report, Resource origin, long lastModified) {
+        boolean isStale() {
+            return ReportTemplateRegistry.lastModified(origin) > lastModified;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.github.gomestkd.startup.file.importer.contract;
+
+import com.github.gomestkd.startup.data.dto.PersonDTO;
+
+/**
+ * A person read from an uploaded file, with the line (or spreadsheet row) it came from.
+ * Columns missing from the row are left {@code null}; validation happens downstream.
+ */
+public record ImportedRow(long lineNumber, PersonDTO person) {
+}
@@ -0,0 +1,34 @@
+package com.github.gomestkd.startup.file.importer.contract;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface StreamingFileImporter {
+
+    /**
+     * Parses the file and hands every row to the consumer in file order, without buffering the file.
+     */
+    void importRows(InputStream inputStream, Consumer<ImportedRow> rowConsumer) throws IOException;
+
+    /**
+     * Delivers the parsed rows in batches of at most {@code batchSize}, in file order. Parsing waits while the
+     * consumer runs, so a slow consumer throttles the reader and only one batch is held in memory at a time.
+     */
+    default void importBatches(InputStream inputStream, int batchSize, Consumer<List<ImportedRow>> batchConsumer)
+            throws IOException {
+        List<ImportedRow> batch = new ArrayList<>(batchSize);
+        importRows(inputStream, row -> {
+            batch.add(row);
+            if (batch.size() == batchSize) {
+                batchConsumer.accept(List.copyOf(batch));
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            batchConsumer.accept(List.copyOf(batch));
+        }
+    }
+}
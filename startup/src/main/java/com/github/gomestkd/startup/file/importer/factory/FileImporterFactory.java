@@ -2,6 +2,7 @@ package com.github.gomestkd.startup.file.importer.factory;
 
 import com.github.gomestkd.startup.exception.BadRequestException;
 import com.github.gomestkd.startup.file.importer.contract.FileImporter;
+import com.github.gomestkd.startup.file.importer.contract.StreamingFileImporter;
 import com.github.gomestkd.startup.file.importer.implementation.CsvImporter;
 import com.github.gomestkd.startup.file.importer.implementation.XlsxImporter;
 import org.slf4j.Logger;
@@ -38,4 +39,21 @@ public class FileImporterFactory {
             throw new BadRequestException("Invalid File Format!");
         }
     }
-}
\ No newline at end of file
+
+    public StreamingFileImporter getStreamingImporter(String fileName) {
+        logger.debug("Attempting to find streaming importer for file: '{}'", fileName);
+
+        if (fileName.toLowerCase().endsWith(".xlsx")) {
+            logger.info("Streaming XLSX importer selected for file: '{}'", fileName);
+            return applicationContext.getBean(XlsxImporter.class);
+
+        } else if (fileName.toLowerCase().endsWith(".csv")) {
+            logger.info("Streaming CSV importer selected for file: '{}'", fileName);
+            return applicationContext.getBean(CsvImporter.class);
+
+        } else {
+            logger.warn("No suitable streaming importer found for file: '{}'. Throwing BadRequestException.", fileName);
+            throw new BadRequestException("Invalid File Format!");
+        }
+    }
+}
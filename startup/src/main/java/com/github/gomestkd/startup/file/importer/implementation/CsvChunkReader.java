@@ -0,0 +1,104 @@
+package com.github.gomestkd.startup.file.importer.implementation;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Cuts CSV text into chunks of roughly {@code chunkChars} characters that always end on a record boundary, so each
+ * chunk can be parsed on its own. A line break only ends a record when it is outside a quoted field, which keeps
+ * quoted values spanning several lines in one chunk. Records must end with {@code \n} (or {@code \r\n}).
+ */
+final class CsvChunkReader {
+
+    record Chunk(String text, long firstLine) {}
+
+    private final Reader reader;
+    private final int chunkChars;
+    private final char[] buffer;
+    private final StringBuilder pending = new StringBuilder();
+
+    private int scanned;
+    private boolean inQuotes;
+    private boolean fieldStart = true;
+    private boolean afterClosingQuote;
+    private int lastBoundary = -1;
+    private long linesScanned;
+    private long linesAtBoundary;
+    private long nextLine = 1;
+    private boolean eof;
+
+    CsvChunkReader(Reader reader, int chunkChars) {
+        this.reader = reader;
+        this.chunkChars = chunkChars;
+        this.buffer = new char[Math.min(chunkChars, 64 * 1024)];
+    }
+
+    /**
+     * Returns the next chunk, or {@code null} once the input is exhausted.
+     */
+    Chunk next() throws IOException {
+        while (true) {
+            if (!eof && pending.length() < chunkChars) {
+                fill();
+                continue;
+            }
+            scan();
+            if (eof) {
+                return pending.isEmpty() ? null : cut(pending.length(), linesScanned);
+            }
+            if (lastBoundary > 0) {
+                return cut(lastBoundary, linesAtBoundary);
+            }
+            // A single record is longer than the chunk size, keep reading until it ends.
+            fill();
+        }
+    }
+
+    private void fill() throws IOException {
+        int read = reader.read(buffer);
+        if (read < 0) {
+            eof = true;
+        } else {
+            pending.append(buffer, 0, read);
+        }
+    }
+
+    private void scan() {
+        for (int i = scanned; i < pending.length(); i++) {
+            char c = pending.charAt(i);
+            if (c == '"') {
+                // An escaped quote ("") closes and reopens; a quote in the middle of an unquoted value is plain text.
+                boolean opens = !inQuotes && (fieldStart || afterClosingQuote);
+                afterClosingQuote = inQuotes;
+                inQuotes = opens;
+                fieldStart = false;
+                continue;
+            }
+            afterClosingQuote = false;
+            if (c == '\n') {
+                linesScanned++;
+                if (!inQuotes) {
+                    lastBoundary = i + 1;
+                    linesAtBoundary = linesScanned;
+                    fieldStart = true;
+                }
+            } else if (c == ',' && !inQuotes) {
+                fieldStart = true;
+            } else if (!Character.isWhitespace(c)) {
+                fieldStart = false;
+            }
+        }
+        scanned = pending.length();
+    }
+
+    private Chunk cut(int length, long lines) {
+        Chunk chunk = new Chunk(pending.substring(0, length), nextLine);
+        pending.delete(0, length);
+        scanned -= length;
+        lastBoundary = -1;
+        nextLine += lines;
+        linesScanned -= lines;
+        linesAtBoundary = 0;
+        return chunk;
+    }
+}
@@ -1,37 +1,80 @@
 package com.github.gomestkd.startup.file.importer.implementation;
 
+import com.github.gomestkd.startup.config.ImportConfig;
 import com.github.gomestkd.startup.data.dto.PersonDTO;
 import com.github.gomestkd.startup.file.importer.contract.FileImporter;
+import com.github.gomestkd.startup.file.importer.contract.ImportedRow;
+import com.github.gomestkd.startup.file.importer.contract.StreamingFileImporter;
+import jakarta.annotation.PreDestroy;
 import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
-public class CsvImporter implements FileImporter {
+@Component
+public class CsvImporter implements FileImporter, StreamingFileImporter {
     private static final Logger logger = LoggerFactory.getLogger(CsvImporter.class);
 
+    private static final CSVFormat CSV_FORMAT = CSVFormat.Builder.create()
+            .setHeader() // Define que a primeira linha é o cabeçalho
+            .setSkipHeaderRecord(true) // Pula a linha do cabeçalho ao ler os registros
+            .setIgnoreEmptyLines(true)
+            .setTrim(true)
+            .build();
+    private static final String[] COLUMNS = {"first_name", "last_name", "address", "gender"};
+
+    private final int parallelism;
+    private final int chunkChars;
+    private final ForkJoinPool parsePool;
+
+    public CsvImporter(ImportConfig importConfig) {
+        this.parallelism = importConfig.getParseParallelism();
+        this.chunkChars = importConfig.getParseChunkChars();
+        this.parsePool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+    }
+
     @Override
     public Set<PersonDTO> importFile(InputStream inputStream) throws IOException {
         logger.debug("Starting CSV file import process.");
 
-        try (InputStreamReader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
-            CSVFormat format = CSVFormat.Builder.create()
-                    .setHeader() // Define que a primeira linha é o cabeçalho
-                    .setSkipHeaderRecord(true) // Pula a linha do cabeçalho ao ler os registros
-                    .setIgnoreEmptyLines(true)
-                    .setTrim(true)
-                    .build();
+        Set<PersonDTO> people = new HashSet<>();
+        importRows(inputStream, row -> people.add(row.person())); // Adiciona ao Set (duplicatas serão ignoradas)
 
-            Iterable<CSVRecord> records = format.parse(reader);
-            return parseRecordsToPersonDTOs(records);
+        logger.info("Successfully parsed {} unique records from the CSV file.", people.size());
+        return people;
+    }
 
+    @Override
+    public void importRows(InputStream inputStream, Consumer<ImportedRow> rowConsumer) throws IOException {
+        try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+            if (parsePool == null) {
+                try (CSVParser parser = CSV_FORMAT.parse(reader)) {
+                    requireColumns(parser);
+                    parseRecords(parser, 1, rowConsumer);
+                }
+            } else {
+                importRowsInParallel(reader, rowConsumer);
+            }
         } catch (IllegalArgumentException e) {
             logger.error("CSV import failed due to a missing or incorrect header column.", e);
             throw new IOException("CSV header is invalid or missing a required column.", e);
@@ -41,21 +84,106 @@ public class CsvImporter implements FileImporter {
         }
     }
 
-    private Set<PersonDTO> parseRecordsToPersonDTOs(Iterable<CSVRecord> records) {
-        Set<PersonDTO> people = new HashSet<>();
+    /**
+     * Splits the input into record-aligned chunks and parses them on the pool. At most twice the parallelism is in
+     * flight, and results are handed to the consumer on the calling thread in file order.
+     */
+    private void importRowsInParallel(Reader reader, Consumer<ImportedRow> rowConsumer) throws IOException {
+        CsvChunkReader chunks = new CsvChunkReader(reader, chunkChars);
 
-        for (CSVRecord record : records) {
-            PersonDTO person = new PersonDTO();
-            person.setFirstName(record.get("first_name"));
-            person.setLastName(record.get("last_name"));
-            person.setAddress(record.get("address"));
-            person.setGender(record.get("gender"));
-            person.setEnabled(true);
-            people.add(person); // Adiciona ao Set (duplicatas serão ignoradas)
+        // O primeiro bloco traz o cabeçalho; ele é lido aqui para os demais blocos usarem os mesmos nomes de coluna.
+        CsvChunkReader.Chunk first = chunks.next();
+        if (first == null) return;
+        CSVFormat bodyFormat;
+        try (CSVParser parser = CSV_FORMAT.parse(new StringReader(first.text()))) {
+            requireColumns(parser);
+            bodyFormat = CSV_FORMAT.builder()
+                    .setHeader(parser.getHeaderNames().toArray(String[]::new))
+                    .setSkipHeaderRecord(false)
+                    .build();
+            parseRecords(parser, first.firstLine(), rowConsumer);
         }
 
-        logger.info("Successfully parsed {} unique records from the CSV file.", people.size());
+        Deque<Future<List<ImportedRow>>> inFlight = new ArrayDeque<>();
+        try {
+            CsvChunkReader.Chunk chunk;
+            while ((chunk = chunks.next()) != null) {
+                if (inFlight.size() == parallelism * 2) {
+                    deliver(inFlight.poll(), rowConsumer);
+                }
+                CsvChunkReader.Chunk current = chunk;
+                inFlight.add(parsePool.submit(() -> parseChunk(current, bodyFormat)));
+            }
+            while (!inFlight.isEmpty()) {
+                deliver(inFlight.poll(), rowConsumer);
+            }
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+        }
+    }
 
-        return people;
+    private List<ImportedRow> parseChunk(CsvChunkReader.Chunk chunk, CSVFormat format) throws IOException {
+        List<ImportedRow> rows = new ArrayList<>();
+        try (CSVParser parser = format.parse(new StringReader(chunk.text()))) {
+            parseRecords(parser, chunk.firstLine(), rows::add);
+        }
+        return rows;
+    }
+
+    private void deliver(Future<List<ImportedRow>> future, Consumer<ImportedRow> rowConsumer) throws IOException {
+        try {
+            future.get().forEach(rowConsumer);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("CSV import interrupted.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) throw io;
+            if (cause instanceof RuntimeException runtime) throw runtime;
+            throw new IOException("CSV chunk could not be parsed.", cause);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (parsePool != null) parsePool.shutdownNow();
+    }
+
+    private void requireColumns(CSVParser parser) {
+        for (String column : COLUMNS) {
+            if (!parser.getHeaderMap().containsKey(column)) {
+                throw new IllegalArgumentException("Mapping for " + column + " not found");
+            }
+        }
+    }
+
+    /**
+     * Parses every record of the parser, which starts at {@code firstLine} of the file. The reported line is the
+     * one the record ends on, so a record with a quoted line break reports its last line.
+     */
+    private void parseRecords(CSVParser parser, long firstLine, Consumer<ImportedRow> rowConsumer) {
+        long offset = firstLine - 1;
+        long previousLine = parser.getCurrentLineNumber();
+        for (CSVRecord record : parser) {
+            // No fim do arquivo sem quebra de linha o contador não avança, por isso a linha anterior + 1.
+            long line = Math.max(parser.getCurrentLineNumber(), previousLine + 1);
+            previousLine = line;
+            rowConsumer.accept(new ImportedRow(offset + line, parseRecord(record)));
+        }
+    }
+
+    // Colunas ausentes na linha ficam nulas; a validação acontece depois, sem derrubar a importação.
+    private PersonDTO parseRecord(CSVRecord record) {
+        PersonDTO person = new PersonDTO();
+        person.setFirstName(valueOf(record, "first_name"));
+        person.setLastName(valueOf(record, "last_name"));
+        person.setAddress(valueOf(record, "address"));
+        person.setGender(valueOf(record, "gender"));
+        person.setEnabled(true);
+        return person;
+    }
+
+    private String valueOf(CSVRecord record, String column) {
+        return record.isSet(column) ? record.get(column) : null;
     }
 }
@@ -0,0 +1,180 @@
+package com.github.gomestkd.startup.file.importer.implementation;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.usermodel.XSSFRelation;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Shared strings table spooled to two temp files while {@code sharedStrings.xml} is parsed: the UTF-8 text of
+ * every entry, and an index holding the offset of each entry. Lookups read the entry from disk, so unlike
+ * {@link org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable} no string is kept in memory.
+ */
+final class SpooledSharedStrings extends DefaultHandler implements SharedStrings, Closeable {
+
+    private final Path dataFile;
+    private final Path indexFile;
+    private DataOutputStream data;
+    private DataOutputStream index;
+    private FileChannel dataChannel;
+    private FileChannel indexChannel;
+
+    private long offset;
+    private int uniqueCount;
+    private int count;
+
+    private final StringBuilder text = new StringBuilder();
+    private boolean inText;
+    private boolean inPhonetic;
+
+    private SpooledSharedStrings() throws IOException {
+        this.dataFile = Files.createTempFile("shared-strings-", ".dat");
+        this.indexFile = Files.createTempFile("shared-strings-", ".idx");
+    }
+
+    static SpooledSharedStrings spool(OPCPackage pkg) throws IOException, SAXException, ParserConfigurationException {
+        List<PackagePart> parts = pkg.getPartsByContentType(XSSFRelation.SHARED_STRINGS.getContentType());
+        // A workbook without text cells has no shared strings part.
+        if (parts.isEmpty()) return spool((InputStream) null);
+        try (InputStream content = parts.get(0).getInputStream()) {
+            return spool(content);
+        }
+    }
+
+    /**
+     * @param sharedStringsXml the {@code sharedStrings.xml} part, or {@code null} for an empty table
+     */
+    static SpooledSharedStrings spool(InputStream sharedStringsXml) throws IOException, SAXException, ParserConfigurationException {
+        SpooledSharedStrings strings = new SpooledSharedStrings();
+        try {
+            strings.data = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(strings.dataFile)));
+            strings.index = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(strings.indexFile)));
+            try (DataOutputStream data = strings.data; DataOutputStream index = strings.index) {
+                if (sharedStringsXml != null) {
+                    XMLReader parser = XMLHelper.newXMLReader();
+                    parser.setContentHandler(strings);
+                    parser.parse(new InputSource(sharedStringsXml));
+                }
+            }
+            strings.dataChannel = FileChannel.open(strings.dataFile, StandardOpenOption.READ);
+            strings.indexChannel = FileChannel.open(strings.indexFile, StandardOpenOption.READ);
+            return strings;
+        } catch (IOException | SAXException | ParserConfigurationException | RuntimeException e) {
+            strings.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes) {
+        switch (localName) {
+            case "sst" -> {
+                String declared = attributes.getValue("count");
+                if (declared != null) count = Integer.parseInt(declared);
+            }
+            case "si" -> text.setLength(0);
+            case "t" -> inText = !inPhonetic;
+            case "rPh" -> inPhonetic = true;
+            default -> {
+            }
+        }
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) throws SAXException {
+        switch (localName) {
+            case "t" -> inText = false;
+            case "rPh" -> inPhonetic = false;
+            case "si" -> append(text.toString());
+            default -> {
+            }
+        }
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) {
+        if (inText) text.append(ch, start, length);
+    }
+
+    private void append(String value) throws SAXException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        try {
+            index.writeLong(offset);
+            data.writeInt(bytes.length);
+            data.write(bytes);
+        } catch (IOException e) {
+            throw new SAXException("Could not spool the shared strings table", e);
+        }
+        offset += Integer.BYTES + bytes.length;
+        uniqueCount++;
+    }
+
+    @Override
+    public RichTextString getItemAt(int idx) {
+        if (idx < 0 || idx >= uniqueCount) {
+            throw new IndexOutOfBoundsException("Shared string " + idx + " out of " + uniqueCount);
+        }
+        try {
+            long entry = read(indexChannel, (long) idx * Long.BYTES, Long.BYTES).getLong();
+            int length = read(dataChannel, entry, Integer.BYTES).getInt();
+            ByteBuffer bytes = read(dataChannel, entry + Integer.BYTES, length);
+            return new XSSFRichTextString(new String(bytes.array(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read shared string " + idx, e);
+        }
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of the shared strings spool");
+            }
+        }
+        return buffer.flip();
+    }
+
+    @Override
+    public int getCount() {
+        return Math.max(count, uniqueCount);
+    }
+
+    @Override
+    public int getUniqueCount() {
+        return uniqueCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (dataChannel != null) dataChannel.close();
+            if (indexChannel != null) indexChannel.close();
+        } finally {
+            Files.deleteIfExists(dataFile);
+            Files.deleteIfExists(indexFile);
+        }
+    }
+}
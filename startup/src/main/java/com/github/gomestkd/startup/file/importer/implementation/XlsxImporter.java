@@ -4,80 +4,138 @@ import com.github.gomestkd.startup.data.dto.PersonDTO;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import com.github.gomestkd.startup.file.importer.contract.FileImporter;
-import org.apache.poi.ss.usermodel.Cell;
+import com.github.gomestkd.startup.file.importer.contract.ImportedRow;
+import com.github.gomestkd.startup.file.importer.contract.StreamingFileImporter;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.apache.poi.ss.usermodel.DataFormatter;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
 
 @Component
-public class XlsxImporter implements FileImporter {
+public class XlsxImporter implements FileImporter, StreamingFileImporter {
     private static final Logger logger = LoggerFactory.getLogger(XlsxImporter.class);
 
+    private static final int COLUMNS = 4;
+
     @Override
     public Set<PersonDTO> importFile(InputStream inputStream) throws IOException {
         logger.debug("Starting XLSX file import process. Returning a Set.");
 
-        try (XSSFWorkbook workbook = new XSSFWorkbook(inputStream)) {
-            XSSFSheet sheet = workbook.getSheetAt(0);
-            Iterator<Row> rowIterator = sheet.iterator();
-
-            if (rowIterator.hasNext()) {
-                rowIterator.next();
-                logger.debug("Header row skipped.");
-            }
+        Set<PersonDTO> uniquePeople = new HashSet<>();
+        importRows(inputStream, row -> uniquePeople.add(row.person()));
 
-            return parseRowsToPersonDtoSet(rowIterator);
+        logger.info("Successfully parsed {} unique records from the XLSX file.", uniquePeople.size());
+        return uniquePeople;
+    }
 
+    /**
+     * Parses the first sheet with the SAX event model and hands each row to the consumer as soon as it ends, so
+     * only the current row is held in memory. The header row and blank rows are skipped.
+     * <p>
+     * Cell text lives in the workbook's shared strings table, which is spooled to an indexed temp file by
+     * {@link SpooledSharedStrings} and read back per cell, so distinct names and addresses are not held in memory either.
+     */
+    @Override
+    public void importRows(InputStream inputStream, Consumer<ImportedRow> consumer) throws IOException {
+        // OPCPackage lê o zip inteiro quando aberto a partir de um InputStream; a partir de um arquivo ele é lido sob demanda.
+        Path tempFile = Files.createTempFile("person-import-", ".xlsx");
+        try {
+            Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+
+            try (OPCPackage pkg = OPCPackage.open(tempFile.toFile(), PackageAccess.READ);
+                 SpooledSharedStrings strings = SpooledSharedStrings.spool(pkg)) {
+                XSSFReader reader = new XSSFReader(pkg);
+                StylesTable styles = reader.getStylesTable();
+
+                Iterator<InputStream> sheets = reader.getSheetsData();
+                if (!sheets.hasNext()) {
+                    logger.warn("XLSX file has no sheets, nothing to import.");
+                    return;
+                }
+
+                try (InputStream sheet = sheets.next()) {
+                    XMLReader parser = XMLHelper.newXMLReader();
+                    parser.setContentHandler(new XSSFSheetXMLHandler(
+                            styles, strings, new PersonRowHandler(consumer), new DataFormatter(), false));
+                    parser.parse(new InputSource(sheet));
+                }
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            logger.error("Failed to read or parse the XLSX file.", e);
+            throw new IOException("Failed to read or parse the XLSX file.", e);
         } catch (IOException e) {
             logger.error("Failed to read or parse the XLSX file.", e);
             throw e;
+        } finally {
+            Files.deleteIfExists(tempFile);
         }
     }
 
-    private Set<PersonDTO> parseRowsToPersonDtoSet(Iterator<Row> rowIterator) {
-        Set<PersonDTO> uniquePeople = new HashSet<>();
-        DataFormatter dataFormatter = new DataFormatter();
+    private static final class PersonRowHandler implements SheetContentsHandler {
+        private final Consumer<ImportedRow> consumer;
+        private final String[] values = new String[COLUMNS];
+        private int currentColumn;
 
-        while (rowIterator.hasNext()) {
-            Row row = rowIterator.next();
-            if (isRowValid(row)) {
-                uniquePeople.add(parseRowToPersonDto(row, dataFormatter));
-            }
+        private PersonRowHandler(Consumer<ImportedRow> consumer) {
+            this.consumer = consumer;
         }
 
-        logger.info("Successfully parsed {} unique records from the XLSX file.", uniquePeople.size());
-
-        return uniquePeople;
-    }
-
-    private PersonDTO parseRowToPersonDto(Row row, DataFormatter dataFormatter) {
-        PersonDTO person = new PersonDTO();
-        person.setFirstName(getSafeStringCellValue(row.getCell(0), dataFormatter));
-        person.setLastName(getSafeStringCellValue(row.getCell(1), dataFormatter));
-        person.setAddress(getSafeStringCellValue(row.getCell(2), dataFormatter));
-        person.setGender(getSafeStringCellValue(row.getCell(3), dataFormatter));
-        person.setEnabled(true);
-        return person;
-    }
+        @Override
+        public void startRow(int rowNum) {
+            Arrays.fill(values, null);
+            currentColumn = -1;
+        }
 
-    private boolean isRowValid(Row row) {
-        Cell firstCell = row.getCell(0);
-        return firstCell != null && !firstCell.toString().trim().isEmpty();
-    }
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            // Células vazias não geram evento, então a coluna vem da referência (ex.: "C12").
+            currentColumn = cellReference != null ? new CellReference(cellReference).getCol() : currentColumn + 1;
+            if (currentColumn < COLUMNS && formattedValue != null && !formattedValue.isBlank()) {
+                values[currentColumn] = formattedValue.trim();
+            }
+        }
 
-    private String getSafeStringCellValue(Cell cell, DataFormatter dataFormatter) {
-        if (cell == null) {
-            return "";
+        @Override
+        public void endRow(int rowNum) {
+            if (rowNum == 0) {
+                logger.debug("Header row skipped.");
+                return;
+            }
+            if (Arrays.stream(values).allMatch(Objects::isNull)) return;
+
+            PersonDTO person = new PersonDTO();
+            person.setFirstName(values[0]);
+            person.setLastName(values[1]);
+            person.setAddress(values[2]);
+            person.setGender(values[3]);
+            person.setEnabled(true);
+            consumer.accept(new ImportedRow(rowNum + 1L, person));
         }
-        return dataFormatter.formatCellValue(cell).trim();
     }
 }
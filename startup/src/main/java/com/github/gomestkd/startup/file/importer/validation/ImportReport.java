@@ -0,0 +1,90 @@
+package com.github.gomestkd.startup.file.importer.validation;
+
+import com.github.gomestkd.startup.data.dto.ImportErrorDTO;
+import com.github.gomestkd.startup.data.dto.ImportSummaryDTO;
+import com.github.gomestkd.startup.data.dto.PersonDTO;
+import com.github.gomestkd.startup.file.importer.contract.ImportedRow;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Collects the outcome of one import while the file is read. Only the first {@code maxReportedErrors} errors
+ * are kept in memory; every rejected row is written to a rejects CSV, which is opened on the first rejection.
+ */
+public class ImportReport implements Closeable {
+
+    private static final CSVFormat REJECTS_FORMAT = CSVFormat.Builder.create()
+            .setHeader("line", "column", "error", "first_name", "last_name", "address", "gender")
+            .build();
+
+    private final int maxReportedErrors;
+    private final String rejectsFile;
+    private final Supplier<OutputStream> rejectsOutput;
+    private final List<ImportErrorDTO> errors = new ArrayList<>();
+
+    private long accepted;
+    private long rejected;
+    private boolean errorsTruncated;
+    private CSVPrinter rejectsPrinter;
+
+    public ImportReport(int maxReportedErrors, String rejectsFile, Supplier<OutputStream> rejectsOutput) {
+        this.maxReportedErrors = maxReportedErrors;
+        this.rejectsFile = rejectsFile;
+        this.rejectsOutput = rejectsOutput;
+    }
+
+    public void accept(long count) {
+        accepted += count;
+    }
+
+    public void reject(ImportedRow row, List<ImportErrorDTO> rowErrors) throws IOException {
+        rejected++;
+        PersonDTO person = row.person();
+        for (ImportErrorDTO error : rowErrors) {
+            if (errors.size() < maxReportedErrors) {
+                errors.add(error);
+            } else {
+                errorsTruncated = true;
+            }
+            printer().printRecord(error.getLine(), error.getColumn(), error.getMessage(),
+                    person.getFirstName(), person.getLastName(), person.getAddress(), person.getGender());
+        }
+    }
+
+    public long getAccepted() {
+        return accepted;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public ImportSummaryDTO toSummary(String fileName, long elapsedMillis) {
+        return new ImportSummaryDTO(fileName, accepted, rejected, elapsedMillis,
+                rejectsPrinter != null ? rejectsFile : null, List.copyOf(errors), errorsTruncated);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (rejectsPrinter != null) rejectsPrinter.close(true);
+    }
+
+    private CSVPrinter printer() throws IOException {
+        if (rejectsPrinter == null) {
+            rejectsPrinter = new CSVPrinter(
+                    new BufferedWriter(new OutputStreamWriter(rejectsOutput.get(), StandardCharsets.UTF_8)),
+                    REJECTS_FORMAT);
+        }
+        return rejectsPrinter;
+    }
+}
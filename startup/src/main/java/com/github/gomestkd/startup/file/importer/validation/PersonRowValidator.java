@@ -0,0 +1,37 @@
+package com.github.gomestkd.startup.file.importer.validation;
+
+import com.github.gomestkd.startup.data.dto.ImportErrorDTO;
+import com.github.gomestkd.startup.data.dto.PersonDTO;
+import com.github.gomestkd.startup.file.importer.contract.ImportedRow;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks an imported row against the {@code person} table constraints, so a bad row is reported
+ * instead of failing its whole batch at insert time.
+ */
+public final class PersonRowValidator {
+
+    private PersonRowValidator() {
+        throw new UnsupportedOperationException("Utility class - cannot be instantiated");
+    }
+
+    public static List<ImportErrorDTO> validate(ImportedRow row) {
+        PersonDTO person = row.person();
+        List<ImportErrorDTO> errors = new ArrayList<>(0);
+        check(errors, row.lineNumber(), "first_name", person.getFirstName(), 80);
+        check(errors, row.lineNumber(), "last_name", person.getLastName(), 80);
+        check(errors, row.lineNumber(), "address", person.getAddress(), 100);
+        check(errors, row.lineNumber(), "gender", person.getGender(), 6);
+        return errors;
+    }
+
+    private static void check(List<ImportErrorDTO> errors, long line, String column, String value, int maxLength) {
+        if (value == null || value.isBlank()) {
+            errors.add(new ImportErrorDTO(line, column, "Value is required"));
+        } else if (value.length() > maxLength) {
+            errors.add(new ImportErrorDTO(line, column, "Value must have at most " + maxLength + " characters"));
+        }
+    }
+}
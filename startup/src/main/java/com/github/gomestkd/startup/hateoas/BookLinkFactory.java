@@ -0,0 +1,97 @@
+package com.github.gomestkd.startup.hateoas;
+
+import com.github.gomestkd.startup.config.HateoasConfig;
+import com.github.gomestkd.startup.controllers.BookController;
+import com.github.gomestkd.startup.data.dto.BookDTO;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.lang.reflect.AnnotatedElement;
+
+/**
+ * Builds the per-item links of a {@link BookDTO} from URI templates resolved once from the
+ * {@link BookController} mappings, so listing a page does not create a {@code methodOn} proxy per link.
+ */
+@Component
+public class BookLinkFactory {
+
+    private static final String BASE_URI_ATTRIBUTE = BookLinkFactory.class.getName() + ".BASE_URI";
+    private static final String EMIT_LINKS_ATTRIBUTE = BookLinkFactory.class.getName() + ".EMIT_LINKS";
+
+    private final boolean linksOnlyForHal;
+    private final String itemPath;
+    private final String findAllPath;
+    private final String createPath;
+    private final String updatePath;
+    private final String deletePath;
+
+    public BookLinkFactory(HateoasConfig config) {
+        this.linksOnlyForHal = config.isLinksOnlyForHal();
+        try {
+            String base = mappingOf(BookController.class);
+            this.itemPath = base + mappingOf(BookController.class.getMethod("findById", Long.class));
+            this.findAllPath = base + mappingOf(BookController.class.getMethod("findAll",
+                    Integer.class, Integer.class, String.class, Boolean.class, Boolean.class))
+                    + "?page=1&size=12&direction=asc";
+            this.createPath = base + mappingOf(BookController.class.getMethod("create", BookDTO.class));
+            this.updatePath = base + mappingOf(BookController.class.getMethod("update", BookDTO.class));
+            this.deletePath = base + mappingOf(BookController.class.getMethod("delete", Long.class));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("BookController mappings changed, link templates cannot be resolved", e);
+        }
+    }
+
+    public void addLinks(BookDTO dto) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!shouldEmitLinks(attributes)) return;
+
+        String base = baseUri(attributes);
+        String id = String.valueOf(dto.getId());
+        dto.add(Link.of(base + itemPath.replace("{id}", id)).withSelfRel().withType("GET"));
+        dto.add(Link.of(base + findAllPath).withRel("findAll").withType("GET"));
+        dto.add(Link.of(base + createPath).withRel("create").withType("POST"));
+        dto.add(Link.of(base + updatePath).withRel("update").withType("PUT"));
+        dto.add(Link.of(base + deletePath.replace("{id}", id)).withRel("delete").withType("DELETE"));
+    }
+
+    private boolean shouldEmitLinks(RequestAttributes attributes) {
+        if (!linksOnlyForHal) return true;
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) return false;
+
+        Boolean cached = (Boolean) attributes.getAttribute(EMIT_LINKS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached != null) return cached;
+
+        HttpServletRequest request = servletAttributes.getRequest();
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        boolean emit = accept != null && accept.contains(MediaTypes.HAL_JSON_VALUE);
+        attributes.setAttribute(EMIT_LINKS_ATTRIBUTE, emit, RequestAttributes.SCOPE_REQUEST);
+        return emit;
+    }
+
+    // Scheme, host and servlet path are the same for every item of a response, so resolve them once per request.
+    private String baseUri(RequestAttributes attributes) {
+        if (attributes == null) return "";
+
+        String cached = (String) attributes.getAttribute(BASE_URI_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached != null) return cached;
+
+        String base = ServletUriComponentsBuilder.fromCurrentServletMapping().toUriString();
+        attributes.setAttribute(BASE_URI_ATTRIBUTE, base, RequestAttributes.SCOPE_REQUEST);
+        return base;
+    }
+
+    private static String mappingOf(AnnotatedElement element) {
+        RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(element, RequestMapping.class);
+        if (mapping == null || mapping.path().length == 0) return "";
+        return mapping.path()[0];
+    }
+}
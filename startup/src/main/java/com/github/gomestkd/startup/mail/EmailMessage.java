@@ -0,0 +1,104 @@
+package com.github.gomestkd.startup.mail;
+
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.InternetAddress;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.mail.MailParseException;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One e-mail ready to be sent. Instances are immutable, so they can be built on one thread
+ * and handed to {@link EmailSender} on another; use {@link #builder()} to create them.
+ */
+public final class EmailMessage {
+
+    private final List<InternetAddress> recipients;
+    private final String subject;
+    private final String body;
+    private final String attachmentName;
+    private final InputStreamSource attachment;
+
+    private EmailMessage(Builder builder) {
+        this.recipients = List.copyOf(builder.recipients);
+        this.subject = builder.subject;
+        this.body = builder.body;
+        this.attachmentName = builder.attachmentName;
+        this.attachment = builder.attachment;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public List<InternetAddress> getRecipients() { return recipients; }
+
+    public String getSubject() { return subject; }
+
+    public String getBody() { return body; }
+
+    public String getAttachmentName() { return attachmentName; }
+
+    public InputStreamSource getAttachment() { return attachment; }
+
+    @Override
+    public String toString() {
+        return "EmailMessage{" +
+                "recipients=" + recipients +
+                ", subject='" + subject + '\'' +
+                ", attachmentName='" + attachmentName + '\'' +
+                '}';
+    }
+
+    public static final class Builder {
+        private List<InternetAddress> recipients = List.of();
+        private String subject;
+        private String body;
+        private String attachmentName;
+        private InputStreamSource attachment;
+
+        private Builder() {
+        }
+
+        /**
+         * Comma-separated list of recipients.
+         *
+         * @throws MailParseException if any of the addresses is invalid
+         */
+        public Builder to(String to) {
+            if (to == null || to.isBlank()) {
+                this.recipients = List.of();
+                return this;
+            }
+            try {
+                this.recipients = List.of(InternetAddress.parse(to.replaceAll("\\s", ""), true));
+            } catch (AddressException e) {
+                throw new MailParseException("Invalid email address: " + e.getRef(), e);
+            }
+            return this;
+        }
+
+        public Builder subject(String subject) {
+            this.subject = subject;
+            return this;
+        }
+
+        public Builder body(String body) {
+            this.body = body;
+            return this;
+        }
+
+        public Builder attachment(String name, InputStreamSource attachment) {
+            this.attachmentName = name;
+            this.attachment = attachment;
+            return this;
+        }
+
+        public EmailMessage build() {
+            if (recipients.isEmpty()) throw new MailParseException("At least one recipient is required");
+            if (attachment != null) Objects.requireNonNull(attachmentName, "Attachment name must not be null");
+            return new EmailMessage(this);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.github.gomestkd.startup.mail;
+
+import com.github.gomestkd.startup.config.EmailOutboxConfig;
+import com.github.gomestkd.startup.exception.FileNotFoundException;
+import com.github.gomestkd.startup.model.EmailOutboxMessage;
+import com.github.gomestkd.startup.model.EmailOutboxMessage.Status;
+import com.github.gomestkd.startup.repository.EmailOutboxRepository;
+import com.github.gomestkd.startup.services.FileStorageService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drains the e-mail outbox. Each worker leases a batch of due messages with {@code FOR UPDATE SKIP LOCKED},
+ * so any number of workers and nodes can poll the same table, and sends the batch over one pooled SMTP
+ * connection. Failed sends are retried with exponential backoff until {@code email.outbox.max-attempts}.
+ * Delivery is at-least-once: a node that dies after sending but before marking the row sent will have
+ * the message resent when its lease expires.
+ */
+@Component
+public class EmailOutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxDispatcher.class);
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final EmailOutboxRepository repository;
+    private final EmailSender emailSender;
+    private final FileStorageService fileStorageService;
+    private final EmailOutboxConfig config;
+    private final boolean virtualThreads;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+    private ScheduledExecutorService executor;
+
+    public EmailOutboxDispatcher(EmailOutboxRepository repository, EmailSender emailSender,
+                                 FileStorageService fileStorageService, EmailOutboxConfig config, MeterRegistry meterRegistry,
+                                 @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.repository = repository;
+        this.emailSender = emailSender;
+        this.fileStorageService = fileStorageService;
+        this.config = config;
+        this.virtualThreads = virtualThreads;
+        this.sent = meterRegistry.counter("email.outbox.sent");
+        this.retried = meterRegistry.counter("email.outbox.retried");
+        this.failed = meterRegistry.counter("email.outbox.failed");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!config.isDispatcherEnabled()) {
+            logger.info("E-mail outbox dispatcher disabled on this node.");
+            return;
+        }
+        if (executor != null) return;
+
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("email-outbox-", 1).factory()
+                : Thread.ofPlatform().name("email-outbox-", 1).daemon(true).factory();
+        executor = Executors.newScheduledThreadPool(config.getWorkers() + 1, threadFactory);
+
+        long pollMillis = config.getPollInterval().toMillis();
+        for (int i = 0; i < config.getWorkers(); i++) {
+            executor.scheduleWithFixedDelay(this::drain, i * pollMillis / config.getWorkers(), pollMillis, TimeUnit.MILLISECONDS);
+        }
+        executor.scheduleWithFixedDelay(this::purgeSent, 1, 60, TimeUnit.MINUTES);
+        logger.info("E-mail outbox dispatcher started: {} workers, batch size = {}, poll interval = {}.",
+                config.getWorkers(), config.getBatchSize(), config.getPollInterval());
+    }
+
+    @PreDestroy
+    synchronized void shutdown() throws InterruptedException {
+        if (executor == null) return;
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    void drain() {
+        try {
+            List<EmailOutboxMessage> batch;
+            do {
+                Instant now = Instant.now();
+                batch = repository.claimBatch(now, now.plus(config.getLease()), config.getBatchSize());
+                if (!batch.isEmpty()) deliver(batch);
+            } while (batch.size() == config.getBatchSize() && !Thread.currentThread().isInterrupted());
+        } catch (Exception e) {
+            // Never let an exception escape: it would cancel this worker's schedule.
+            logger.error("E-mail outbox poll failed.", e);
+        }
+    }
+
+    private void deliver(List<EmailOutboxMessage> batch) {
+        List<EmailOutboxMessage> claimed = new ArrayList<>(batch.size());
+        List<EmailMessage> messages = new ArrayList<>(batch.size());
+        for (EmailOutboxMessage row : batch) {
+            if (row.getAttempts() > config.getMaxAttempts()) {
+                giveUp(row, "Lease expired during the last attempt");
+                continue;
+            }
+            try {
+                messages.add(toEmailMessage(row));
+                claimed.add(row);
+            } catch (MailParseException | FileNotFoundException e) {
+                giveUp(row, describe(e));
+            }
+        }
+        if (messages.isEmpty()) return;
+
+        Map<Integer, MailException> failures = emailSender.sendBatch(messages);
+
+        List<EmailOutboxMessage> sentRows = new ArrayList<>(claimed.size());
+        for (int i = 0; i < claimed.size(); i++) {
+            EmailOutboxMessage row = claimed.get(i);
+            MailException failure = failures.get(i);
+            if (failure == null) {
+                sentRows.add(row);
+            } else if (failure instanceof MailPreparationException || failure instanceof MailParseException) {
+                giveUp(row, describe(failure));
+            } else {
+                retryOrGiveUp(row, failure);
+            }
+        }
+        if (!sentRows.isEmpty()) {
+            repository.markSent(sentRows.stream().map(EmailOutboxMessage::getId).toList(), Instant.now(), Status.SENT, Status.SENDING);
+            sent.increment(sentRows.size());
+            sentRows.forEach(this::deleteAttachment);
+        }
+    }
+
+    private EmailMessage toEmailMessage(EmailOutboxMessage row) {
+        EmailMessage.Builder builder = EmailMessage.builder()
+                .to(row.getRecipients())
+                .subject(row.getSubject())
+                .body(row.getBody());
+        if (row.getAttachmentFile() != null) {
+            Resource attachment = fileStorageService.loadFileAsResource(row.getAttachmentFile());
+            builder.attachment(row.getAttachmentName(), attachment);
+        }
+        return builder.build();
+    }
+
+    private void retryOrGiveUp(EmailOutboxMessage message, MailException e) {
+        if (message.getAttempts() >= config.getMaxAttempts()) {
+            giveUp(message, describe(e));
+            return;
+        }
+        Instant nextAttemptAt = Instant.now().plus(backoff(message.getAttempts(), config.getInitialBackoff(), config.getMaxBackoff()));
+        repository.markFailedAttempt(message.getId(), Status.PENDING, nextAttemptAt, describe(e), Status.SENDING);
+        retried.increment();
+        logger.warn("E-mail {} failed on attempt {}, retrying at {}.", message.getId(), message.getAttempts(), nextAttemptAt);
+    }
+
+    private void giveUp(EmailOutboxMessage message, String error) {
+        repository.markFailedAttempt(message.getId(), Status.FAILED, Instant.now(), error, Status.SENDING);
+        failed.increment();
+        deleteAttachment(message);
+        logger.error("E-mail {} failed after {} attempts: {}", message.getId(), message.getAttempts(), error);
+    }
+
+    private void deleteAttachment(EmailOutboxMessage message) {
+        if (message.getAttachmentFile() != null) fileStorageService.deleteFile(message.getAttachmentFile());
+    }
+
+    private void purgeSent() {
+        try {
+            int deleted = repository.deleteSentBefore(Status.SENT, Instant.now().minus(config.getRetention()));
+            if (deleted > 0) logger.info("Purged {} sent e-mails from the outbox.", deleted);
+        } catch (Exception e) {
+            logger.error("E-mail outbox purge failed.", e);
+        }
+    }
+
+    /**
+     * Delay before the next attempt: {@code initial * 2^(attempt - 1)}, capped at {@code max}.
+     */
+    static Duration backoff(int attempt, Duration initial, Duration max) {
+        int exponent = Math.min(Math.max(attempt - 1, 0), 30);
+        Duration delay = initial.multipliedBy(1L << exponent);
+        return delay.compareTo(max) > 0 ? max : delay;
+    }
+
+    private static String describe(Exception e) {
+        String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
@@ -1,114 +1,153 @@
 package com.github.gomestkd.startup.mail;
 
 import com.github.gomestkd.startup.config.EmailConfig;
+import com.github.gomestkd.startup.config.EmailTransportConfig;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
 import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
-import java.io.File;
-import java.io.Serial;
-import java.io.Serializable;
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 
+/**
+ * Sends {@link EmailMessage}s over a pool of long-lived SMTP connections. The sender keeps no
+ * per-message state, so one instance is shared by every thread.
+ */
 @Component
-public class EmailSender implements Serializable {
-    @Serial
-    private static final long serialVersionUID = 1L;
+public class EmailSender {
 
     private static final Logger logger = LoggerFactory.getLogger(EmailSender.class);
 
-    private final JavaMailSender mailSender;
+    private final JavaMailSenderImpl mailSender;
+    private final EmailConfig emailConfig;
+    private final SmtpTransportPool transportPool;
 
-    private String to;
-    private String subject;
-    private String body;
-    private Set<InternetAddress> recipients = Collections.emptySet();
-    private File attachment;
-
-
-    public EmailSender(JavaMailSender mailSender) {
+    public EmailSender(JavaMailSenderImpl mailSender, EmailConfig emailConfig, EmailTransportConfig transportConfig) {
         this.mailSender = Objects.requireNonNull(mailSender, "JavaMailSender must not be null");
+        this.emailConfig = Objects.requireNonNull(emailConfig, "EmailConfig must not be null");
+        // Same fallback as JavaMailSenderImpl#getTransport when no protocol is configured.
+        String protocol = mailSender.getProtocol() != null ? mailSender.getProtocol()
+                : mailSender.getSession().getProperty("mail.transport.protocol");
+        this.transportPool = new SmtpTransportPool(mailSender.getSession(),
+                protocol != null ? protocol : JavaMailSenderImpl.DEFAULT_PROTOCOL, mailSender.getHost(),
+                mailSender.getPort(), StringUtils.hasLength(mailSender.getUsername()) ? mailSender.getUsername() : null,
+                mailSender.getPassword(), transportConfig.getMaxConnections(), transportConfig.getMaxMessagesPerConnection(),
+                transportConfig.getValidateAfterIdle(), transportConfig.getBorrowTimeout());
+        logger.info("SMTP connection pool configured: max connections = {}, max messages per connection = {}.",
+                transportConfig.getMaxConnections(), transportConfig.getMaxMessagesPerConnection());
     }
 
-    public EmailSender to(String to) {
-        this.to = to;
-        this.recipients = parseRecipients(to);
-        return this;
+    public void send(EmailMessage message) {
+        MailException failure = sendBatch(List.of(message)).get(0);
+        if (failure != null) throw failure;
     }
 
-    public EmailSender withSubject(String subject) {
-        this.subject = subject;
-        return this;
-    }
+    /**
+     * Sends the messages in order over one pooled connection, reconnecting when the connection is retired
+     * or breaks. One bad message does not stop the rest of the batch.
+     *
+     * @return the failure of each message that was not sent, keyed by its index; empty when all were sent
+     */
+    public Map<Integer, MailException> sendBatch(List<EmailMessage> messages) {
+        Map<Integer, MailException> failures = new HashMap<>();
+        MimeMessage[] prepared = new MimeMessage[messages.size()];
+        for (int i = 0; i < messages.size(); i++) {
+            try {
+                prepared[i] = prepare(messages.get(i));
+            } catch (MailException e) {
+                failures.put(i, e);
+            }
+        }
 
-    public EmailSender withBody(String body) {
-        this.body = body;
-        return this;
-    }
+        sendPooled(prepared, failures);
 
-    public EmailSender attachment(String fileDir) {
-        if (fileDir != null && !fileDir.isBlank()) {
-            this.attachment = new File(fileDir);
+        for (int i = 0; i < messages.size(); i++) {
+            EmailMessage message = messages.get(i);
+            MailException failure = failures.get(i);
+            if (failure == null) {
+                logger.info("Email sent to {} with the subject '{}'", message.getRecipients(), message.getSubject());
+            } else {
+                logger.error("Failed to send email to {} with subject '{}'", message.getRecipients(), message.getSubject(), failure);
+            }
         }
-        return this;
+        return failures;
     }
 
-    public void send(EmailConfig config) {
-        Objects.requireNonNull(config, "EmailConfig must not be null");
-
-        MimeMessage message = mailSender.createMimeMessage();
+    private void sendPooled(MimeMessage[] prepared, Map<Integer, MailException> failures) {
+        SmtpTransportPool.PooledTransport transport = null;
         try {
-            MimeMessageHelper helper = new MimeMessageHelper(message, true);
-
-            helper.setFrom(config.getUsername());
-            helper.setTo(this.recipients.toArray(new InternetAddress[0]));
-            helper.setSubject(this.subject);
-            helper.setText(this.body, true);
-
-            if (this.attachment != null && this.attachment.exists()) {
-                helper.addAttachment(this.attachment.getName(), this.attachment);
+            for (int i = 0; i < prepared.length; i++) {
+                if (prepared[i] == null) continue;
+
+                if (transport == null) {
+                    try {
+                        transport = transportPool.borrow();
+                    } catch (MessagingException e) {
+                        // The server is unreachable; fail the rest of the batch instead of reconnecting per message.
+                        MailSendException failure = new MailSendException("Could not connect to the mail server", e);
+                        for (int j = i; j < prepared.length; j++) {
+                            if (prepared[j] != null) failures.put(j, failure);
+                        }
+                        return;
+                    }
+                }
+
+                try {
+                    transport.send(prepared[i]);
+                } catch (SendFailedException e) {
+                    // Rejected recipients; the connection itself is still fine.
+                    failures.put(i, new MailSendException("The mail server rejected the message", e));
+                } catch (MessagingException e) {
+                    failures.put(i, new MailSendException("Error sending the email", e));
+                    transportPool.invalidate(transport);
+                    transport = null;
+                    continue;
+                }
+
+                if (transport.isRetired()) {
+                    transportPool.release(transport);
+                    transport = null;
+                }
             }
-
-            mailSender.send(message);
-            logger.info("Email sent to {} with the subject '{}'", to, subject);
-
-            reset();
-        } catch (Exception e) {
-            logger.error("Failed to send email to {} with subject '{}'", to, subject, e);
-            throw new RuntimeException("Error sending the email", e);
+        } finally {
+            if (transport != null) transportPool.release(transport);
         }
     }
 
-    private void reset() {
-        this.to = null;
-        this.subject = null;
-        this.body = null;
-        this.recipients = Collections.emptySet();
-        this.attachment = null;
-    }
-
-    private Set<InternetAddress> parseRecipients(String to) {
-        if (to == null || to.isBlank()) {
-            return Collections.emptySet();
-        }
+    private MimeMessage prepare(EmailMessage message) {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        try {
+            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true);
 
-        Set<InternetAddress> recipientsSet = new HashSet<>();
-        String[] addresses = to.replaceAll("\\s", "").split(",");
+            helper.setFrom(emailConfig.getUsername());
+            helper.setTo(message.getRecipients().toArray(new InternetAddress[0]));
+            helper.setSubject(message.getSubject());
+            helper.setText(message.getBody(), true);
 
-        for (String address : addresses) {
-            try {
-                recipientsSet.add(new InternetAddress(address));
-            } catch (Exception e) {
-                logger.error("Invalid email address: {}", address, e);
+            if (message.getAttachment() != null) {
+                helper.addAttachment(message.getAttachmentName(), message.getAttachment());
             }
+            return mimeMessage;
+        } catch (MessagingException | IllegalArgumentException e) {
+            throw new MailPreparationException("Error preparing the email", e);
         }
-        return Collections.unmodifiableSet(recipientsSet);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        transportPool.close();
     }
 }
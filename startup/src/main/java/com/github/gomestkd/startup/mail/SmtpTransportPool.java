@@ -0,0 +1,143 @@
+package com.github.gomestkd.startup.mail;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps up to {@code maxConnections} SMTP connections open and hands them out one caller at a time.
+ * A connection is retired after {@code maxMessagesPerConnection} messages, and one that sat idle
+ * longer than {@code validateAfterIdle} is checked with a NOOP before it is reused.
+ */
+class SmtpTransportPool implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SmtpTransportPool.class);
+
+    private final Session session;
+    private final String protocol;
+    private final String host;
+    private final int port;
+    private final String username;
+    private final String password;
+    private final int maxMessagesPerConnection;
+    private final long validateAfterIdleNanos;
+    private final long borrowTimeoutMillis;
+    private final Semaphore permits;
+    private final Deque<PooledTransport> idle = new ConcurrentLinkedDeque<>();
+    private volatile boolean closed;
+
+    SmtpTransportPool(Session session, String protocol, String host, int port, String username, String password,
+                      int maxConnections, int maxMessagesPerConnection, Duration validateAfterIdle, Duration borrowTimeout) {
+        this.session = session;
+        this.protocol = protocol;
+        this.host = host;
+        this.port = port;
+        this.username = username;
+        this.password = password;
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.validateAfterIdleNanos = validateAfterIdle.toNanos();
+        this.borrowTimeoutMillis = borrowTimeout.toMillis();
+        this.permits = new Semaphore(maxConnections, true);
+    }
+
+    PooledTransport borrow() throws MessagingException {
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new MessagingException("Timed out waiting for a free SMTP connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("Interrupted while waiting for a free SMTP connection", e);
+        }
+
+        try {
+            PooledTransport pooled;
+            while ((pooled = idle.pollFirst()) != null) {
+                if (pooled.isUsable(validateAfterIdleNanos)) return pooled;
+                pooled.close();
+            }
+
+            Transport transport = session.getTransport(protocol);
+            transport.connect(host, port, username, password);
+            logger.debug("Opened SMTP connection to {}:{}.", host, port);
+            return new PooledTransport(transport, maxMessagesPerConnection);
+        } catch (MessagingException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a healthy connection to the pool, or closes it once it has sent its share of messages.
+     */
+    void release(PooledTransport pooled) {
+        if (closed || pooled.isRetired()) {
+            pooled.close();
+        } else {
+            pooled.lastUsed = System.nanoTime();
+            idle.offerFirst(pooled);
+        }
+        permits.release();
+    }
+
+    /**
+     * Drops a connection that failed mid-conversation.
+     */
+    void invalidate(PooledTransport pooled) {
+        pooled.close();
+        permits.release();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            pooled.close();
+        }
+    }
+
+    static final class PooledTransport {
+        private final Transport transport;
+        private final int maxMessages;
+        private int sent;
+        private long lastUsed = System.nanoTime();
+
+        private PooledTransport(Transport transport, int maxMessages) {
+            this.transport = transport;
+            this.maxMessages = maxMessages;
+        }
+
+        void send(MimeMessage message) throws MessagingException {
+            message.saveChanges();
+            transport.sendMessage(message, message.getAllRecipients());
+            sent++;
+        }
+
+        boolean isRetired() {
+            return sent >= maxMessages;
+        }
+
+        private boolean isUsable(long validateAfterIdleNanos) {
+            if (System.nanoTime() - lastUsed < validateAfterIdleNanos) return true;
+            return transport.isConnected();
+        }
+
+        private void close() {
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                logger.debug("Error closing SMTP connection", e);
+            }
+        }
+    }
+}
@@ -1,21 +1,48 @@
 package com.github.gomestkd.startup.mapper;
 
-import com.github.dozermapper.core.DozerBeanMapperBuilder;
-import com.github.dozermapper.core.Mapper;
+import com.github.gomestkd.startup.data.dto.BookDTO;
+import com.github.gomestkd.startup.data.dto.PersonDTO;
+import com.github.gomestkd.startup.data.projection.PersonSummary;
+import com.github.gomestkd.startup.mapper.converter.BookConverter;
+import com.github.gomestkd.startup.mapper.converter.PersonConverter;
+import com.github.gomestkd.startup.model.Book;
+import com.github.gomestkd.startup.model.Person;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class ObjectMapper {
-    private static final Mapper mapper = DozerBeanMapperBuilder.buildDefault();
+
+    private static final Map<Class<?>, Map<Class<?>, Function<Object, ?>>> converters = Map.of(
+            Person.class, Map.of(PersonDTO.class, source -> PersonConverter.toDTO((Person) source)),
+            PersonDTO.class, Map.of(Person.class, source -> PersonConverter.toEntity((PersonDTO) source)),
+            PersonSummary.class, Map.of(PersonDTO.class, source -> PersonConverter.toDTO((PersonSummary) source)),
+            Book.class, Map.of(BookDTO.class, source -> BookConverter.toDTO((Book) source)),
+            BookDTO.class, Map.of(Book.class, source -> BookConverter.toEntity((BookDTO) source))
+    );
+
+    private static final ClassValue<Map<Class<?>, Function<Object, ?>>> convertersBySource = new ClassValue<>() {
+        @Override
+        protected Map<Class<?>, Function<Object, ?>> computeValue(Class<?> type) {
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                Map<Class<?>, Function<Object, ?>> found = converters.get(current);
+                if (found != null) {
+                    return found;
+                }
+            }
+            return Map.of();
+        }
+    };
 
     private ObjectMapper() {
         throw new UnsupportedOperationException("Utility class - cannot be instantiated");
     }
 
     public static <O, D> D parseObject(O objectOrigin, Class<D> destinationClass) {
-        return (objectOrigin == null) ? null : mapper.map(objectOrigin, destinationClass);
+        return (objectOrigin == null) ? null : map(objectOrigin, destinationClass);
     }
 
     public static <O, D> Set<D> parseListObject(Set<O> objectOrigin, Class<D> destinationClass) {
@@ -25,7 +52,20 @@ public class ObjectMapper {
 
         return objectOrigin.stream()
                 .filter(Objects::nonNull)
-                .map(source -> mapper.map(source, destinationClass))
+                .map(source -> map(source, destinationClass))
                 .collect(Collectors.toUnmodifiableSet());
     }
+
+    private static <D> D map(Object source, Class<D> destinationClass) {
+        return destinationClass.cast(converterFor(source.getClass(), destinationClass).apply(source));
+    }
+
+    private static Function<Object, ?> converterFor(Class<?> sourceClass, Class<?> destinationClass) {
+        Function<Object, ?> converter = convertersBySource.get(sourceClass).get(destinationClass);
+        if (converter == null) {
+            throw new IllegalArgumentException(
+                    "No mapping registered from " + sourceClass.getName() + " to " + destinationClass.getName());
+        }
+        return converter;
+    }
 }
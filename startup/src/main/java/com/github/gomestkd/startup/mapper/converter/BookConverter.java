@@ -0,0 +1,31 @@
+package com.github.gomestkd.startup.mapper.converter;
+
+import com.github.gomestkd.startup.data.dto.BookDTO;
+import com.github.gomestkd.startup.model.Book;
+
+public final class BookConverter {
+
+    private BookConverter() {
+        throw new UnsupportedOperationException("Utility class - cannot be instantiated");
+    }
+
+    public static BookDTO toDTO(Book source) {
+        return new BookDTO(
+                source.getId(),
+                source.getTitle(),
+                source.getAuthor(),
+                source.getPrice(),
+                source.getLaunchDate()
+        );
+    }
+
+    public static Book toEntity(BookDTO source) {
+        return new Book(
+                source.getId(),
+                source.getTitle(),
+                source.getAuthor(),
+                source.getPrice(),
+                source.getLaunchDate()
+        );
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.gomestkd.startup.mapper.converter;
+
+import com.github.gomestkd.startup.data.dto.PersonDTO;
+import com.github.gomestkd.startup.data.projection.PersonSummary;
+import com.github.gomestkd.startup.model.Book;
+import com.github.gomestkd.startup.model.Person;
+import org.hibernate.Hibernate;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public final class PersonConverter {
+
+    private PersonConverter() {
+        throw new UnsupportedOperationException("Utility class - cannot be instantiated");
+    }
+
+    public static PersonDTO toDTO(Person source) {
+        PersonDTO target = new PersonDTO(
+                source.getId(),
+                source.getFirstName(),
+                source.getLastName(),
+                source.getAddress(),
+                source.getGender(),
+                source.getEnabled(),
+                source.getWikipediaProfileUrl(),
+                source.getPhotoUrl()
+        );
+        target.setBooks(copyBooks(source.getBooks()));
+        return target;
+    }
+
+    public static PersonDTO toDTO(PersonSummary source) {
+        return new PersonDTO(
+                source.id(),
+                source.firstName(),
+                source.lastName(),
+                source.address(),
+                source.gender(),
+                source.enabled(),
+                source.profileUrl(),
+                source.photoUrl()
+        );
+    }
+
+    public static Person toEntity(PersonDTO source) {
+        Person target = new Person(
+                source.getId(),
+                source.getFirstName(),
+                source.getLastName(),
+                source.getAddress(),
+                source.getGender(),
+                source.getEnabled(),
+                source.getProfileUrl(),
+                source.getPhotoUrl()
+        );
+        target.setBooks(copyBooks(source.getBooks()));
+        return target;
+    }
+
+    private static Set<Book> copyBooks(Set<Book> books) {
+        if (books == null || !Hibernate.isInitialized(books)) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(books);
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.gomestkd.startup.pagination;
+
+import com.github.gomestkd.startup.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public record KeysetCursor(String sortKey, Long id) {
+
+    private static final char SEPARATOR = ':';
+
+    public String encode() {
+        String raw = id + String.valueOf(SEPARATOR) + sortKey;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 1) {
+                throw new BadRequestException("Invalid pagination cursor!");
+            }
+            return new KeysetCursor(raw.substring(separator + 1), Long.valueOf(raw.substring(0, separator)));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid pagination cursor!");
+        }
+    }
+}
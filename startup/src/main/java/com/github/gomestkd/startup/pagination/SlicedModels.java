@@ -0,0 +1,60 @@
+package com.github.gomestkd.startup.pagination;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedModel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Builds the {@link PagedModel} of a listing read as a {@link Slice}, i.e. without a count query.
+ * Without a count there is no totalPages, so only an estimated total is reported, if asked for.
+ */
+public final class SlicedModels {
+
+    private SlicedModels() {
+    }
+
+    /**
+     * @param estimateCount the planner's row estimate, or {@code null} when no total was asked for
+     * @param link          the listing link for a given page; used for the self, prev and next links
+     */
+    public static <T> PagedModel<EntityModel<T>> of(Slice<T> slice, Supplier<Long> estimateCount,
+                                                   Function<Pageable, Link> link) {
+        List<EntityModel<T>> content = slice.getContent().stream().map(EntityModel::of).toList();
+
+        PagedModel.PageMetadata metadata = null;
+        if (estimateCount != null) {
+            Long estimate = estimateCount.get();
+            // reltuples is -1 for a table that was never analyzed.
+            metadata = new PagedModel.PageMetadata(slice.getSize(), slice.getNumber(),
+                    estimate == null ? 0L : Math.max(0L, estimate));
+        }
+
+        List<Link> links = new ArrayList<>();
+        links.add(link.apply(slice.getPageable()).withSelfRel());
+        if (slice.hasPrevious()) {
+            links.add(link.apply(slice.previousPageable()).withRel(IanaLinkRelations.PREV));
+        }
+        if (slice.hasNext()) {
+            links.add(link.apply(slice.nextPageable()).withRel(IanaLinkRelations.NEXT));
+        }
+        return PagedModel.of(content, metadata, links);
+    }
+
+    /**
+     * The {@code direction} request parameter that reproduces the pageable's first sort order.
+     */
+    public static String direction(Pageable pageable) {
+        return pageable.getSort().stream()
+                .findFirst()
+                .map(order -> order.getDirection().name().toLowerCase())
+                .orElse("asc");
+    }
+}
@@ -1,7 +1,25 @@
 package com.github.gomestkd.startup.repository;
 
 import com.github.gomestkd.startup.model.Book;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface BookRepository extends JpaRepository<Book, Long> {
+
+    @Query(value = "SELECT * FROM books ORDER BY title, id LIMIT :limit", nativeQuery = true)
+    List<Book> findFirstByKeyset(@Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM books WHERE (title, id) > (:title, :id) ORDER BY title, id LIMIT :limit",
+            nativeQuery = true)
+    List<Book> findNextByKeyset(@Param("title") String title, @Param("id") Long id, @Param("limit") int limit);
+
+    Slice<Book> findAllBy(Pageable pageable);
+
+    @Query(value = "SELECT CAST(reltuples AS bigint) FROM pg_class WHERE oid = CAST('books' AS regclass)", nativeQuery = true)
+    Long estimateCount();
 }
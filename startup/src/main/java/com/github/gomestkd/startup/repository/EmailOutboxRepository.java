@@ -0,0 +1,58 @@
+package com.github.gomestkd.startup.repository;
+
+import com.github.gomestkd.startup.model.EmailOutboxMessage;
+import com.github.gomestkd.startup.model.EmailOutboxMessage.Status;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, Long> {
+
+    /**
+     * Leases up to {@code batchSize} due messages to the caller. {@code SKIP LOCKED} lets every node
+     * claim a disjoint batch; a message whose lease ran out (its sender died) becomes claimable again.
+     * The candidates are selected in a materialized CTE: as an {@code IN} subquery the planner may run
+     * the {@code LIMIT} more than once and lease more than {@code batchSize} rows.
+     */
+    @Transactional
+    @Query(nativeQuery = true, value = """
+            WITH due AS MATERIALIZED (
+                SELECT id FROM email_outbox
+                WHERE (status = 'PENDING' AND next_attempt_at <= :now)
+                   OR (status = 'SENDING' AND locked_until < :now)
+                ORDER BY next_attempt_at
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED)
+            UPDATE email_outbox e SET status = 'SENDING', attempts = e.attempts + 1, locked_until = :lockedUntil
+            FROM due
+            WHERE e.id = due.id
+            RETURNING e.*""")
+    List<EmailOutboxMessage> claimBatch(@Param("now") Instant now,
+                                        @Param("lockedUntil") Instant lockedUntil,
+                                        @Param("batchSize") int batchSize);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET m.status = :status, m.sentAt = :sentAt, m.lockedUntil = null, m.lastError = null" +
+            " WHERE m.id IN :ids AND m.status = :sending")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") Instant sentAt,
+                 @Param("status") Status status, @Param("sending") Status sending);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET m.status = :status, m.nextAttemptAt = :nextAttemptAt, m.lockedUntil = null," +
+            " m.lastError = :error WHERE m.id = :id AND m.status = :sending")
+    int markFailedAttempt(@Param("id") Long id, @Param("status") Status status, @Param("nextAttemptAt") Instant nextAttemptAt,
+                          @Param("error") String error, @Param("sending") Status sending);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM EmailOutboxMessage m WHERE m.status = :status AND m.sentAt < :before")
+    int deleteSentBefore(@Param("status") Status status, @Param("before") Instant before);
+}
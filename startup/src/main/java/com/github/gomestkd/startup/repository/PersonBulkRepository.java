@@ -0,0 +1,37 @@
+package com.github.gomestkd.startup.repository;
+
+import com.github.gomestkd.startup.model.Person;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public class PersonBulkRepository {
+
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public PersonBulkRepository(EntityManager entityManager,
+                                @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    public List<Person> insertAll(List<Person> people) {
+        for (int i = 0; i < people.size(); i++) {
+            entityManager.persist(people.get(i));
+            if ((i + 1) % batchSize == 0) {
+                flushAndClear();
+            }
+        }
+        flushAndClear();
+        return people;
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
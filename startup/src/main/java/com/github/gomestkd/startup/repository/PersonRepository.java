@@ -1,19 +1,69 @@
 package com.github.gomestkd.startup.repository;
 
+import com.github.gomestkd.startup.data.projection.PersonSummary;
 import com.github.gomestkd.startup.model.Person;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 public interface PersonRepository extends JpaRepository<Person, Long> {
 
+    String SELECT_SUMMARY = "SELECT new com.github.gomestkd.startup.data.projection.PersonSummary(" +
+            "p.id, p.firstName, p.lastName, p.address, p.gender, p.enabled, p.wikipediaProfileUrl, p.photoUrl)" +
+            " FROM Person p";
+    String FIRST_NAME_MATCHES = " WHERE LOWER(p.firstName) LIKE LOWER(CONCAT('%',:firstName,'%'))";
+    String FIRST_OR_LAST_NAME_MATCHES = " WHERE LOWER(p.firstName) LIKE LOWER(CONCAT('%',:name,'%'))" +
+            " OR LOWER(p.lastName) LIKE LOWER(CONCAT('%',:name,'%'))";
+
     @Modifying(clearAutomatically = true)
     @Query("UPDATE Person p SET p.enabled = false WHERE p.id =: id")
     void disabledPerson(@Param("id") Long id);
 
-    @Query("SELECT p FROM Person p WHERE p.firstName LIKE LOWER(CONCAT('%',:firstName,'%'))" )
-    Page<Person> findPeopleByName(@Param("firstName") String firstName, Pageable pageable);
+    @Query(value = SELECT_SUMMARY, countQuery = "SELECT COUNT(p) FROM Person p")
+    Page<PersonSummary> findAllSummaries(Pageable pageable);
+
+    @Query(SELECT_SUMMARY)
+    Slice<PersonSummary> findSummarySlice(Pageable pageable);
+
+    @Query(value = SELECT_SUMMARY + FIRST_NAME_MATCHES,
+            countQuery = "SELECT COUNT(p) FROM Person p" + FIRST_NAME_MATCHES)
+    Page<PersonSummary> findPeopleByName(@Param("firstName") String firstName, Pageable pageable);
+
+    @Query(value = SELECT_SUMMARY + FIRST_OR_LAST_NAME_MATCHES,
+            countQuery = "SELECT COUNT(p) FROM Person p" + FIRST_OR_LAST_NAME_MATCHES)
+    Page<PersonSummary> findPeopleByFirstOrLastName(@Param("name") String name, Pageable pageable);
+
+    @EntityGraph(attributePaths = "books")
+    @Query("SELECT p FROM Person p WHERE p.id = :id")
+    Optional<Person> findWithBooksById(@Param("id") Long id);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Person p")
+    Stream<Person> streamAll(Sort sort);
+
+    @Query(value = "SELECT * FROM person ORDER BY first_name, id LIMIT :limit", nativeQuery = true)
+    List<Person> findFirstByKeyset(@Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM person WHERE (first_name, id) > (:firstName, :id) ORDER BY first_name, id LIMIT :limit",
+            nativeQuery = true)
+    List<Person> findNextByKeyset(@Param("firstName") String firstName, @Param("id") Long id, @Param("limit") int limit);
+
+    @Query(value = "SELECT CAST(reltuples AS bigint) FROM pg_class WHERE oid = CAST('person' AS regclass)", nativeQuery = true)
+    Long estimateCount();
 }
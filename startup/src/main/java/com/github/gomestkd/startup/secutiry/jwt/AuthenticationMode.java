@@ -0,0 +1,6 @@
+package com.github.gomestkd.startup.secutiry.jwt;
+
+public enum AuthenticationMode {
+    DATABASE,
+    CLAIMS
+}
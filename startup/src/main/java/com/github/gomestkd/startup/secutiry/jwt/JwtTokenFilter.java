@@ -1,5 +1,6 @@
 package com.github.gomestkd.startup.secutiry.jwt;
 
+import com.auth0.jwt.interfaces.DecodedJWT;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
@@ -27,8 +28,9 @@ public class JwtTokenFilter extends GenericFilterBean {
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
         String token = tokenProvider.resolveToken((HttpServletRequest)  request);
 
-        if (StringUtils.isNotBlank(token) && tokenProvider.validateToken(token)) {
-            Authentication authentication = tokenProvider.getAuthentication(token);
+        if (StringUtils.isNotBlank(token)) {
+            DecodedJWT decodedJWT = tokenProvider.decodeAndValidate(token);
+            Authentication authentication = tokenProvider.getAuthentication(decodedJWT);
 
             if (authentication != null) {
                 SecurityContextHolder.getContext().setAuthentication(authentication);
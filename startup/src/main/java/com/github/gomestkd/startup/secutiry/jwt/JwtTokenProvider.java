@@ -13,6 +13,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
@@ -23,6 +25,7 @@ import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 @Service
@@ -36,24 +39,34 @@ public class JwtTokenProvider {
     @Value("${security.jwt.token.expire-length}")
     private long validityInMilliseconds;
 
+    @Value("${security.jwt.authentication-mode:database}")
+    private AuthenticationMode authenticationMode;
+
+    @Value("${security.jwt.revocation-check:true}")
+    private boolean revocationCheck;
+
     private final UserDetailsService userDetailsService;
+    private final TokenRevocationList revocationList;
 
     private Algorithm algorithm;
+    private JWTVerifier verifier;
 
-    public JwtTokenProvider(UserDetailsService userDetailsService) {
+    public JwtTokenProvider(UserDetailsService userDetailsService, TokenRevocationList revocationList) {
         this.userDetailsService = userDetailsService;
+        this.revocationList = revocationList;
     }
 
     @PostConstruct
     protected void init() {
         this.secretKey = Base64.getEncoder().encodeToString(secretKey.getBytes());
         this.algorithm = Algorithm.HMAC256(secretKey.getBytes());
-        logger.info("JWT Provider initialized with HMAC256 algorithm.");
+        this.verifier = JWT.require(algorithm).build();
+        logger.info("JWT Provider initialized with HMAC256 algorithm and {} authentication mode.", authenticationMode);
     }
 
     public TokenDTO createAccessToken(String username, Set<String> roles) {
         Instant now = Instant.now();
-        Instant validity = now.plusSeconds(validityInMilliseconds);
+        Instant validity = now.plusMillis(validityInMilliseconds);
 
         String accessToken = buildAccessToken(username, roles, now, validity);
         String refreshToken = buildRefreshToken(username, roles, now);
@@ -64,38 +77,57 @@ public class JwtTokenProvider {
     public TokenDTO refreshToken(String refreshToken) {
         String token = stripBearer(refreshToken);
 
-        JWTVerifier verifier = JWT.require(algorithm).build();
-
         if (token == null) {
             throw new RuntimeException("Refresh token is missing or invalid");
         }
 
-        DecodedJWT decodedJWT = verifier.verify(token);
+        DecodedJWT decodedJWT = decodeAndValidate(token);
         String username = decodedJWT.getSubject();
+        if (isRevoked(decodedJWT)) {
+            throw new InvalidJWTAuthenticationException("Expired or Invalid JWT Token!");
+        }
         Set<String> roles = new HashSet<>(decodedJWT.getClaim("roles").asList(String.class));
 
         return createAccessToken(username, roles);
 
     }
 
-    public Authentication getAuthentication(String token) {
-        DecodedJWT decodedJWT = decodeToken(token);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(decodedJWT.getSubject());
+    public Authentication getAuthentication(DecodedJWT decodedJWT) {
+        if (isRevoked(decodedJWT)) {
+            logger.debug("Rejected revoked JWT token for user: {}", decodedJWT.getSubject());
+            return null;
+        }
 
+        if (authenticationMode == AuthenticationMode.CLAIMS) {
+            return getAuthenticationFromClaims(decodedJWT);
+        }
+
+        UserDetails userDetails = userDetailsService.loadUserByUsername(decodedJWT.getSubject());
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
 
+    private Authentication getAuthenticationFromClaims(DecodedJWT decodedJWT) {
+        String username = decodedJWT.getSubject();
+        List<String> roles = decodedJWT.getClaim("roles").asList(String.class);
+        List<GrantedAuthority> authorities = roles == null
+                ? List.of()
+                : roles.stream().<GrantedAuthority>map(SimpleGrantedAuthority::new).toList();
+
+        return new UsernamePasswordAuthenticationToken(username, "", authorities);
+    }
+
+    private boolean isRevoked(DecodedJWT decodedJWT) {
+        return revocationCheck && revocationList.isRevoked(decodedJWT.getSubject(), decodedJWT.getIssuedAtAsInstant());
+    }
+
     public String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         return stripBearer(bearerToken);
     }
 
-    public boolean validateToken(String token) {
+    public DecodedJWT decodeAndValidate(String token) {
         try {
-            DecodedJWT decodedJWT = decodeToken(token);
-            Instant expiration = decodedJWT.getExpiresAt().toInstant();
-
-            return expiration.isAfter(Instant.now());
+            return verifier.verify(token);
         } catch (Exception e) {
             logger.warn("Invalid JWT token: {}", e.getMessage());
             throw new InvalidJWTAuthenticationException("Expired or Invalid JWT Token!");
@@ -103,7 +135,7 @@ public class JwtTokenProvider {
     }
 
     private String buildRefreshToken(String username, Set<String> roles, Instant now) {
-        Instant refreshTokenValidity = now.plusSeconds(validityInMilliseconds * 3);
+        Instant refreshTokenValidity = now.plusMillis(validityInMilliseconds * 3);
 
         return JWT.create()
                 .withClaim("roles", roles.stream().toList())
@@ -125,11 +157,6 @@ public class JwtTokenProvider {
                 .sign(algorithm);
     }
 
-    private DecodedJWT decodeToken(String token) {
-        JWTVerifier verifier = JWT.require(algorithm).build();
-        return verifier.verify(token);
-    }
-
     private String stripBearer(String bearerToken) {
         if (StringUtils.isNotBlank(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
             return bearerToken.substring(BEARER_PREFIX.length());
@@ -0,0 +1,52 @@
+package com.github.gomestkd.startup.secutiry.jwt;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-node record of sign-outs: every token issued to a user before their revocation is rejected.
+ * JWT {@code iat} only has second precision, so revocations are kept at second precision too and the
+ * comparison is exclusive: a token issued during the same second as the revocation stays valid, which
+ * lets the user sign in again right after signing out. Entries are pruned once every token they could
+ * match has expired (refresh tokens live three times the access token validity).
+ */
+@Component
+public class TokenRevocationList {
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationList.class);
+
+    private final Map<String, Instant> revokedBefore = new ConcurrentHashMap<>();
+    private final Duration retention;
+
+    public TokenRevocationList(@Value("${security.jwt.token.expire-length}") long validityInMilliseconds) {
+        this.retention = Duration.ofMillis(validityInMilliseconds * 3);
+    }
+
+    public void revoke(String username) {
+        revoke(username, Instant.now());
+    }
+
+    void revoke(String username, Instant now) {
+        Instant revokedAt = now.truncatedTo(ChronoUnit.SECONDS);
+        revokedBefore.merge(username, revokedAt, (previous, current) -> current.isAfter(previous) ? current : previous);
+        revokedBefore.values().removeIf(instant -> instant.plus(retention).isBefore(now));
+        logger.info("Tokens issued to '{}' before {} are now revoked.", username, revokedAt);
+    }
+
+    public boolean isRevoked(String username, Instant issuedAt) {
+        Instant revokedAt = revokedBefore.get(username);
+        if (revokedAt == null) return false;
+        return issuedAt == null || issuedAt.truncatedTo(ChronoUnit.SECONDS).isBefore(revokedAt);
+    }
+
+    public int size() {
+        return revokedBefore.size();
+    }
+}
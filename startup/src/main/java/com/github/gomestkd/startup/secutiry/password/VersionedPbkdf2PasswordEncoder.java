@@ -0,0 +1,73 @@
+package com.github.gomestkd.startup.secutiry.password;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PBKDF2 encoder that keeps the iteration count in the hash id, e.g. {@code {pbkdf2@310000}...}.
+ * Hashes stored under the original {@code {pbkdf2}} id, or without any id, were produced with
+ * 185000 iterations. {@link #upgradeEncoding(String)} answers true for every hash that was not
+ * produced with the current iteration count, so it can be replaced after a successful sign-in.
+ */
+public class VersionedPbkdf2PasswordEncoder implements PasswordEncoder {
+
+    static final String ID = "pbkdf2";
+    static final int LEGACY_ITERATIONS = 185000;
+    private static final int SALT_LENGTH = 8;
+
+    private final int iterations;
+    private final String prefix;
+    private final Map<Integer, Pbkdf2PasswordEncoder> encoders = new ConcurrentHashMap<>();
+
+    public VersionedPbkdf2PasswordEncoder(int iterations) {
+        this.iterations = iterations;
+        this.prefix = "{" + (iterations == LEGACY_ITERATIONS ? ID : ID + "@" + iterations) + "}";
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return prefix + encoderFor(iterations).encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) return false;
+        if (!encodedPassword.startsWith("{")) {
+            return encoderFor(LEGACY_ITERATIONS).matches(rawPassword, encodedPassword);
+        }
+
+        int end = encodedPassword.indexOf('}');
+        if (end < 0) return false;
+        Integer hashIterations = iterationsOf(encodedPassword.substring(1, end));
+        return hashIterations != null && encoderFor(hashIterations).matches(rawPassword, encodedPassword.substring(end + 1));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return encodedPassword == null || !encodedPassword.startsWith(prefix);
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    private static Integer iterationsOf(String id) {
+        if (ID.equals(id)) return LEGACY_ITERATIONS;
+        if (!id.startsWith(ID + "@")) return null;
+        try {
+            int value = Integer.parseInt(id.substring(ID.length() + 1));
+            return value > 0 ? value : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Pbkdf2PasswordEncoder encoderFor(int iterations) {
+        return encoders.computeIfAbsent(iterations, count -> new Pbkdf2PasswordEncoder(
+                "", SALT_LENGTH, count,
+                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256));
+    }
+}
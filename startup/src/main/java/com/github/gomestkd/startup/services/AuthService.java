@@ -6,49 +6,68 @@ import com.github.gomestkd.startup.exception.RequiredObjectIsNullException;
 import com.github.gomestkd.startup.model.User;
 import com.github.gomestkd.startup.repository.UserRepository;
 import com.github.gomestkd.startup.secutiry.jwt.JwtTokenProvider;
+import com.github.gomestkd.startup.secutiry.jwt.TokenRevocationList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.userdetails.UserDetailsChecker;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
-import java.util.Map;
-
 @Service
 public class AuthService {
 
     private final Logger logger = LoggerFactory.getLogger(AuthService.class);
-    private final AuthenticationManager authenticationManager;
+    private final UserDetailsChecker accountStatusChecker = new AccountStatusUserDetailsChecker();
     private final JwtTokenProvider tokenProvider;
+    private final TokenRevocationList revocationList;
     private final UserRepository repository;
+    private final UserService userService;
+    private final PasswordHashingService hashingService;
+    private final PasswordEncoder passwordEncoder;
+    private volatile String unknownUserHash;
 
-    public AuthService(AuthenticationManager authenticationManager, JwtTokenProvider tokenProvider, UserRepository repository) {
-        this.authenticationManager = authenticationManager;
+    public AuthService(JwtTokenProvider tokenProvider, TokenRevocationList revocationList, UserRepository repository,
+                       UserService userService, PasswordHashingService hashingService, PasswordEncoder passwordEncoder) {
         this.tokenProvider = tokenProvider;
+        this.revocationList = revocationList;
         this.repository = repository;
+        this.userService = userService;
+        this.hashingService = hashingService;
+        this.passwordEncoder = passwordEncoder;
     }
 
+    /**
+     * Loads the user once, verifies the password with the shared encoder on the hashing pool and,
+     * when the stored hash was made with other cost parameters, replaces it with a fresh one.
+     * Unknown usernames still pay for one hash so they cannot be told apart by timing.
+     */
     public ResponseEntity<TokenDTO> signIn(AccountCredentialsDTO credentials) {
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        credentials.getUsername(),
-                        credentials.getPassword()
-                )
-        );
-
         User user = repository.findByUsername(credentials.getUsername());
-        if (user == null) {
-            throw new UsernameNotFoundException("Username " + credentials.getUsername() + " not found!");
+        String rawPassword = credentials.getPassword();
+
+        String upgradedHash = hashingService.execute(() -> {
+            if (user == null) {
+                passwordEncoder.matches(rawPassword, unknownUserHash());
+                throw new BadCredentialsException("Bad credentials");
+            }
+            if (!passwordEncoder.matches(rawPassword, user.getPassword())) {
+                throw new BadCredentialsException("Bad credentials");
+            }
+            return passwordEncoder.upgradeEncoding(user.getPassword()) ? passwordEncoder.encode(rawPassword) : null;
+        });
+        accountStatusChecker.check(user);
+
+        if (upgradedHash != null && repository.updatePassword(user.getId(), user.getPassword(), upgradedHash) > 0) {
+            logger.info("Password hash of user '{}' upgraded to the current parameters.", user.getUsername());
+            userService.evict(user.getUsername());
         }
 
         TokenDTO token = tokenProvider.createAccessToken(
-                credentials.getUsername(),
+                user.getUsername(),
                 user.getRoles()
         );
         return ResponseEntity.ok(token);
@@ -66,6 +85,13 @@ public class AuthService {
         return ResponseEntity.ok(token);
     }
 
+    /**
+     * Revokes every access and refresh token issued to the user so far.
+     */
+    public void signOut(String username) {
+        revocationList.revoke(username);
+    }
+
     public AccountCredentialsDTO create(AccountCredentialsDTO user) {
         if (user == null) {
             throw new RequiredObjectIsNullException();
@@ -76,27 +102,24 @@ public class AuthService {
 
         entity.setFullName(user.getFullname());
         entity.setUsername(user.getUsername());
-        entity.setPassword(generateHashedPassword(user.getPassword()));
+        entity.setPassword(hashingService.execute(() -> passwordEncoder.encode(user.getPassword())));
         entity.setAccountNonExpired(true);
         entity.setAccountNonLocked(true);
         entity.setCredentialsNonExpired(true);
         entity.setEnabled(true);
 
         User savedUser = repository.save(entity);
+        userService.evict(savedUser.getUsername());
 
         return new AccountCredentialsDTO(savedUser.getUsername(), savedUser.getPassword(), savedUser.getFullName());
     }
 
-    private String generateHashedPassword(String password) {
-        PasswordEncoder pbkdf2Encoder = new Pbkdf2PasswordEncoder(
-                "", 8, 185000,
-                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
-
-        Map<String, PasswordEncoder> encoders = new HashMap<>();
-        encoders.put("pbkdf2", pbkdf2Encoder);
-        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder("pbkdf2", encoders);
-
-        passwordEncoder.setDefaultPasswordEncoderForMatches(pbkdf2Encoder);
-        return passwordEncoder.encode(password);
+    private String unknownUserHash() {
+        String hash = unknownUserHash;
+        if (hash == null) {
+            hash = passwordEncoder.encode("userNotFoundPassword");
+            unknownUserHash = hash;
+        }
+        return hash;
     }
 }
\ No newline at end of file
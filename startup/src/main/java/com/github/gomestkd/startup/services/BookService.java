@@ -4,19 +4,28 @@ import com.github.gomestkd.startup.controllers.BookController;
 import com.github.gomestkd.startup.data.dto.BookDTO;
 import com.github.gomestkd.startup.exception.RequiredObjectIsNullException;
 import com.github.gomestkd.startup.exception.ResourceNotFoundException;
+import com.github.gomestkd.startup.exception.BadRequestException;
+import com.github.gomestkd.startup.hateoas.BookLinkFactory;
 import com.github.gomestkd.startup.model.Book;
+import com.github.gomestkd.startup.pagination.KeysetCursor;
+import com.github.gomestkd.startup.pagination.SlicedModels;
 import com.github.gomestkd.startup.repository.BookRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 import static com.github.gomestkd.startup.mapper.ObjectMapper.parseObject;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
@@ -27,15 +36,22 @@ public class BookService {
     private final Logger logger = LoggerFactory.getLogger(BookService.class.getName());
     private final BookRepository repository;
     private final PagedResourcesAssembler<BookDTO> assembler;
+    private final BookLinkFactory linkFactory;
 
-    public BookService(BookRepository repository, PagedResourcesAssembler<BookDTO> assembler) {
+    public BookService(BookRepository repository, PagedResourcesAssembler<BookDTO> assembler,
+                       BookLinkFactory linkFactory) {
         this.repository = repository;
         this.assembler = assembler;
+        this.linkFactory = linkFactory;
     }
 
-    public PagedModel<EntityModel<BookDTO>> findAll(Pageable pageable) {
+    public PagedModel<EntityModel<BookDTO>> findAll(Pageable pageable, boolean withTotal, boolean approximateTotal) {
         logger.info("Finding all Book!");
 
+        if (!withTotal) {
+            return findAllSliced(pageable, approximateTotal);
+        }
+
         Page<Book> booksPage = repository.findAll(pageable);
 
         Page<BookDTO> booksWithLinks = booksPage.map(book -> {
@@ -49,11 +65,61 @@ public class BookService {
                                 .findAll(
                                         pageable.getPageNumber(),
                                         pageable.getPageSize(),
-                                        String.valueOf(pageable.getSort())))
+                                        String.valueOf(pageable.getSort()),
+                                        null,
+                                        null))
                 .withSelfRel();
         return assembler.toModel(booksWithLinks, findAllLink);
     }
 
+    private PagedModel<EntityModel<BookDTO>> findAllSliced(Pageable pageable, boolean approximateTotal) {
+        Slice<BookDTO> books = repository.findAllBy(pageable).map(book -> {
+            BookDTO dto = parseObject(book, BookDTO.class);
+            addHateoasLinks(dto);
+            return dto;
+        });
+        return SlicedModels.of(books, approximateTotal ? repository::estimateCount : null,
+                page -> sliceLink(page, approximateTotal));
+    }
+
+    private Link sliceLink(Pageable pageable, boolean approximateTotal) {
+        return linkTo(methodOn(BookController.class)
+                .findAll(pageable.getPageNumber(), pageable.getPageSize(), SlicedModels.direction(pageable), false, approximateTotal))
+                .withSelfRel();
+    }
+
+    public CollectionModel<BookDTO> findAllByCursor(String cursor, int size) {
+        logger.info("Finding Books by cursor!");
+        if (size < 1) throw new BadRequestException("Page size must be greater than zero!");
+
+        List<Book> books;
+        if (cursor == null || cursor.isBlank()) {
+            books = repository.findFirstByKeyset(size + 1);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            books = repository.findNextByKeyset(position.sortKey(), position.id(), size + 1);
+        }
+
+        List<BookDTO> content = books.stream()
+                .limit(size)
+                .map(book -> {
+                    BookDTO dto = parseObject(book, BookDTO.class);
+                    addHateoasLinks(dto);
+                    return dto;
+                })
+                .toList();
+
+        CollectionModel<BookDTO> model = CollectionModel.of(content,
+                linkTo(methodOn(BookController.class).findAllByCursor(cursor, size)).withSelfRel());
+
+        if (books.size() > size) {
+            Book last = books.get(size - 1);
+            String next = new KeysetCursor(last.getTitle(), last.getId()).encode();
+            model.add(linkTo(methodOn(BookController.class).findAllByCursor(next, size)).withRel(IanaLinkRelations.NEXT));
+        }
+        return model;
+    }
+
     public BookDTO findById(Long id) {
         logger.info("Finding one Book!");
 
@@ -101,10 +167,6 @@ public class BookService {
     }
 
     private void addHateoasLinks(BookDTO dto) {
-        dto.add(linkTo(methodOn(BookController.class).findById(dto.getId())).withSelfRel().withType("GET"));
-        dto.add(linkTo(methodOn(BookController.class).findAll(1, 12, "asc")).withRel("findAll").withType("GET"));
-        dto.add(linkTo(methodOn(BookController.class).create(dto)).withRel("create").withType("POST"));
-        dto.add(linkTo(methodOn(BookController.class).update(dto)).withRel("update").withType("PUT"));
-        dto.add(linkTo(methodOn(BookController.class).delete(dto.getId())).withRel("delete").withType("DELETE"));
+        linkFactory.addLinks(dto);
     }
-}
\ No newline at end of file
+}
@@ -2,53 +2,151 @@ package com.github.gomestkd.startup.services;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.gomestkd.startup.config.EmailConfig;
+import com.github.gomestkd.startup.config.EmailOutboxConfig;
+import com.github.gomestkd.startup.data.dto.EmailBatchDTO;
+import com.github.gomestkd.startup.data.dto.EmailOutboxDTO;
+import com.github.gomestkd.startup.data.dto.request.EmailBatchRequestDTO;
 import com.github.gomestkd.startup.data.dto.request.EmailRequestDTO;
-import com.github.gomestkd.startup.mail.EmailSender;
+import com.github.gomestkd.startup.exception.BadRequestException;
+import com.github.gomestkd.startup.exception.ResourceNotFoundException;
+import com.github.gomestkd.startup.model.EmailOutboxMessage;
+import com.github.gomestkd.startup.repository.EmailOutboxRepository;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.InternetAddress;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
+/**
+ * Writes e-mails to the outbox table; {@link com.github.gomestkd.startup.mail.EmailOutboxDispatcher}
+ * delivers them in the background, so no request waits on the SMTP server.
+ */
 @Service
 public class EmailService {
 
-    private final EmailSender emailSender;
-    private final EmailConfig emailConfig;
+    private static final Logger logger = LoggerFactory.getLogger(EmailService.class);
 
-    public EmailService(EmailSender emailSender, EmailConfig emailConfig) {
-        this.emailSender = emailSender;
-        this.emailConfig = emailConfig;
+    private final EmailOutboxRepository repository;
+    private final FileStorageService fileStorageService;
+    private final EmailOutboxConfig outboxConfig;
+
+    public EmailService(EmailOutboxRepository repository, FileStorageService fileStorageService, EmailOutboxConfig outboxConfig) {
+        this.repository = repository;
+        this.fileStorageService = fileStorageService;
+        this.outboxConfig = outboxConfig;
     }
 
-    public void sendSimpleEmail(EmailRequestDTO emailRequestDTO) {
-        emailSender.to(emailRequestDTO.getTo())
-                .withSubject(emailRequestDTO.getSubject())
-                .withBody(emailRequestDTO.getBody())
-                .send(emailConfig);
+    public EmailOutboxDTO sendSimpleEmail(EmailRequestDTO emailRequestDTO) {
+        EmailOutboxMessage message = toMessage(emailRequestDTO);
+        return enqueue(message);
     }
 
-    public void sendEmailWithAttachment(String emailRequestJson, MultipartFile attachment) {
-        File tempFile = null;
+    public EmailOutboxDTO sendEmailWithAttachment(String emailRequestJson, MultipartFile attachment) {
+        EmailRequestDTO emailRequestDTO;
         try {
-            EmailRequestDTO emailRequestDTO = new ObjectMapper().readValue(emailRequestJson, EmailRequestDTO.class);
-            tempFile = File.createTempFile("attachment-", attachment.getOriginalFilename());
-            attachment.transferTo(tempFile);
-
-            emailSender.to(emailRequestDTO.getTo())
-                    .withSubject(emailRequestDTO.getSubject())
-                    .withBody(emailRequestDTO.getBody())
-                    .attachment(tempFile.getAbsolutePath())
-                    .send(emailConfig);
+            emailRequestDTO = new ObjectMapper().readValue(emailRequestJson, EmailRequestDTO.class);
         } catch (JsonProcessingException e) {
-            throw new RuntimeException("Error parsing email request JSON", e);
-        } catch (IOException e) {
-            throw new RuntimeException("Error handling email attachment", e);
-        } finally {
-            if (tempFile != null && tempFile.exists()) {
-                tempFile.delete();
+            throw new BadRequestException("Invalid e-mail request JSON!");
+        }
+        EmailOutboxMessage message = toMessage(emailRequestDTO);
+
+        if (attachment != null && !attachment.isEmpty()) {
+            String attachmentName = StringUtils.cleanPath(attachment.getOriginalFilename() == null ? "attachment" : attachment.getOriginalFilename());
+            String storedName = "email-attachment-" + UUID.randomUUID();
+            try (InputStream content = attachment.getInputStream()) {
+                fileStorageService.storeFile(storedName, content);
+            } catch (IOException e) {
+                throw new RuntimeException("Error handling email attachment", e);
+            }
+            message.setAttachmentName(attachmentName);
+            message.setAttachmentFile(storedName);
+        }
+
+        try {
+            return enqueue(message);
+        } catch (RuntimeException e) {
+            if (message.getAttachmentFile() != null) fileStorageService.deleteFile(message.getAttachmentFile());
+            throw e;
+        }
+    }
+
+    /**
+     * Queues one message per recipient, so every recipient only sees their own address. The whole list
+     * is validated first and inserted in one transaction: either every message is queued or none is.
+     */
+    @Transactional
+    public EmailBatchDTO sendBatch(EmailBatchRequestDTO request) {
+        if (request == null || request.getRecipients() == null || request.getRecipients().isEmpty()) {
+            throw new BadRequestException("At least one recipient is required!");
+        }
+        if (request.getRecipients().size() > outboxConfig.getMaxBatchRecipients()) {
+            throw new BadRequestException("A batch can have at most " + outboxConfig.getMaxBatchRecipients() + " recipients!");
+        }
+        validateSubject(request.getSubject());
+
+        List<EmailOutboxMessage> messages = new ArrayList<>(request.getRecipients().size());
+        Set<String> seen = new HashSet<>();
+        for (String recipient : request.getRecipients()) {
+            String address = recipient == null ? "" : recipient.strip();
+            if (!seen.add(address.toLowerCase())) continue;
+            try {
+                new InternetAddress(address, true).validate();
+            } catch (AddressException e) {
+                throw new BadRequestException("Invalid e-mail address: " + address);
             }
+            messages.add(new EmailOutboxMessage(address, request.getSubject(), request.getBody()));
+        }
+
+        repository.saveAll(messages);
+        logger.info("{} e-mails queued for the batch '{}'.", messages.size(), request.getSubject());
+        return new EmailBatchDTO(messages.size());
+    }
+
+    public EmailOutboxDTO getStatus(Long id) {
+        return repository.findById(id)
+                .map(EmailService::toDTO)
+                .orElseThrow(() -> new ResourceNotFoundException("No e-mail found for this ID!"));
+    }
+
+    private EmailOutboxDTO enqueue(EmailOutboxMessage message) {
+        EmailOutboxMessage saved = repository.save(message);
+        logger.info("E-mail {} queued for {}.", saved.getId(), saved.getRecipients());
+        return toDTO(saved);
+    }
+
+    private static EmailOutboxMessage toMessage(EmailRequestDTO request) {
+        if (request == null || request.getTo() == null || request.getTo().isBlank()) {
+            throw new BadRequestException("At least one recipient is required!");
         }
+        String recipients = request.getTo().replaceAll("\\s", "");
+        try {
+            InternetAddress.parse(recipients, true);
+        } catch (AddressException e) {
+            throw new BadRequestException("Invalid e-mail address: " + e.getRef());
+        }
+        validateSubject(request.getSubject());
+        return new EmailOutboxMessage(recipients, request.getSubject(), request.getBody());
+    }
+
+    private static void validateSubject(String subject) {
+        if (subject != null && subject.length() > 255) {
+            throw new BadRequestException("The subject must have at most 255 characters!");
+        }
+    }
+
+    private static EmailOutboxDTO toDTO(EmailOutboxMessage message) {
+        return new EmailOutboxDTO(message.getId(), message.getStatus(), message.getAttempts(), message.getLastError(),
+                message.getCreatedAt(), message.getNextAttemptAt(), message.getSentAt());
     }
-}
\ No newline at end of file
+}
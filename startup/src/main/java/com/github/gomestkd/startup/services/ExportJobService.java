@@ -0,0 +1,238 @@
+package com.github.gomestkd.startup.services;
+
+import com.github.gomestkd.startup.config.ExportJobConfig;
+import com.github.gomestkd.startup.data.dto.ExportJobDTO;
+import com.github.gomestkd.startup.data.dto.ExportJobDTO.Status;
+import com.github.gomestkd.startup.exception.BadRequestException;
+import com.github.gomestkd.startup.exception.ResourceNotFoundException;
+import com.github.gomestkd.startup.exception.TooManyRequestsException;
+import com.github.gomestkd.startup.file.exporter.MediaTypes;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class ExportJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportJobService.class);
+
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            MediaTypes.APPLICATION_XLSX_VALUE, ".xlsx",
+            MediaTypes.APPLICATION_CSV_VALUE, ".csv",
+            MediaTypes.APPLICATION_PDF_VALUE, ".pdf"
+    );
+
+    private final PersonService personService;
+    private final FileStorageService fileStorageService;
+    private final ExportJobConfig config;
+    private final boolean virtualThreads;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+    private ScheduledExecutorService pruner;
+
+    public ExportJobService(PersonService personService, FileStorageService fileStorageService, ExportJobConfig config,
+                            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.personService = personService;
+        this.fileStorageService = fileStorageService;
+        this.config = config;
+        this.virtualThreads = virtualThreads;
+
+        BlockingQueue<Runnable> queue = config.getQueueCapacity() == 0
+                ? new SynchronousQueue<>()
+                : new ArrayBlockingQueue<>(config.getQueueCapacity());
+        // The pool size still caps concurrent exports; virtual workers just stop holding a platform thread while blocked.
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("export-job-", 1).factory()
+                : Thread.ofPlatform().name("export-job-", 1).factory();
+        this.executor = new ThreadPoolExecutor(config.getPoolSize(), config.getPoolSize(), 0L, TimeUnit.MILLISECONDS, queue,
+                threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Sweeps finished jobs every {@code export.jobs.retention}, so a job and its file are kept between one and two
+     * retention periods after it finishes, whether or not new jobs are submitted.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void startPruning() {
+        if (pruner != null) return;
+
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("export-job-pruner").factory()
+                : Thread.ofPlatform().name("export-job-pruner").daemon(true).factory();
+        pruner = Executors.newSingleThreadScheduledExecutor(threadFactory);
+
+        long retentionMillis = Math.max(config.getRetention().toMillis(), 1000L);
+        pruner.scheduleWithFixedDelay(this::pruneExpired, retentionMillis, retentionMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public ExportJobDTO submit(Pageable pageable, String contentType) {
+        if (contentType == null || !EXTENSIONS.containsKey(contentType)) throw new BadRequestException();
+
+        ExportJob job = new ExportJob(UUID.randomUUID().toString(), contentType);
+        job.task = new FutureTask<>(() -> run(job, pageable), null);
+        jobs.put(job.id, job);
+        try {
+            executor.execute(job.task);
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            logger.warn("Export job rejected, {} running and {} queued.", executor.getActiveCount(), executor.getQueue().size());
+            throw new TooManyRequestsException("Too many export jobs in progress, please try again later!");
+        }
+        logger.info("Export job {} queued for {}.", job.id, contentType);
+        return job.toDTO();
+    }
+
+    public ExportJobDTO getStatus(String jobId) {
+        return find(jobId).toDTO();
+    }
+
+    public Resource download(String jobId) {
+        ExportJob job = find(jobId);
+        if (job.status != Status.COMPLETED) {
+            throw new BadRequestException("Export job " + jobId + " is " + job.status + ", the file is not available!");
+        }
+        return fileStorageService.loadFileAsResource(job.fileName);
+    }
+
+    public String fileNameOf(String jobId) {
+        ExportJob job = find(jobId);
+        return "people_exported" + EXTENSIONS.get(job.contentType);
+    }
+
+    /**
+     * Cancels a queued or running job. A finished job is discarded together with its file.
+     */
+    public void cancel(String jobId) {
+        ExportJob job = find(jobId);
+        if (job.cancel()) {
+            job.task.cancel(true);
+            executor.remove(job.task);
+            logger.info("Export job {} cancelled.", jobId);
+        } else {
+            jobs.remove(jobId);
+            if (job.fileName != null) fileStorageService.deleteFile(job.fileName);
+            logger.info("Export job {} discarded.", jobId);
+        }
+    }
+
+    private void run(ExportJob job, Pageable pageable) {
+        if (!job.start()) return;
+
+        String fileName = "export-" + job.id + EXTENSIONS.get(job.contentType);
+        try {
+            try (OutputStream file = new BufferedOutputStream(fileStorageService.openOutputStream(fileName))) {
+                personService.exportPage(pageable, job.contentType, file);
+            }
+            if (job.complete(fileName)) {
+                logger.info("Export job {} completed.", job.id);
+            } else {
+                fileStorageService.deleteFile(fileName);
+            }
+        } catch (Exception e) {
+            logger.error("Export job {} failed.", job.id, e);
+            fileStorageService.deleteFile(fileName);
+            job.fail(e.getMessage());
+        }
+    }
+
+    private ExportJob find(String jobId) {
+        ExportJob job = jobs.get(jobId);
+        if (job == null) throw new ResourceNotFoundException("No export job found for this ID!");
+        return job;
+    }
+
+    void pruneExpired() {
+        try {
+            Instant expiredBefore = Instant.now().minus(config.getRetention());
+            jobs.values().removeIf(job -> {
+                Instant finishedAt = job.finishedAt;
+                if (finishedAt == null || !finishedAt.isBefore(expiredBefore)) return false;
+                if (job.fileName != null) fileStorageService.deleteFile(job.fileName);
+                logger.debug("Export job {} expired.", job.id);
+                return true;
+            });
+        } catch (Exception e) {
+            // Never let an exception escape: it would cancel the sweep's schedule.
+            logger.error("Export job pruning failed.", e);
+        }
+    }
+
+    @PreDestroy
+    synchronized void shutdown() {
+        if (pruner != null) pruner.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    private static final class ExportJob {
+        private final String id;
+        private final String contentType;
+        private final Instant createdAt = Instant.now();
+        private FutureTask<Void> task;
+        private volatile Status status = Status.QUEUED;
+        private volatile String fileName;
+        private volatile String error;
+        private volatile Instant finishedAt;
+
+        private ExportJob(String id, String contentType) {
+            this.id = id;
+            this.contentType = contentType;
+        }
+
+        synchronized boolean start() {
+            if (status != Status.QUEUED) return false;
+            status = Status.RUNNING;
+            return true;
+        }
+
+        synchronized boolean complete(String fileName) {
+            if (status != Status.RUNNING) return false;
+            this.fileName = fileName;
+            finish(Status.COMPLETED);
+            return true;
+        }
+
+        synchronized void fail(String error) {
+            if (status != Status.RUNNING) return;
+            this.error = error;
+            finish(Status.FAILED);
+        }
+
+        synchronized boolean cancel() {
+            if (status != Status.QUEUED && status != Status.RUNNING) return false;
+            finish(Status.CANCELLED);
+            return true;
+        }
+
+        private void finish(Status status) {
+            this.finishedAt = Instant.now();
+            this.status = status;
+        }
+
+        ExportJobDTO toDTO() {
+            return new ExportJobDTO(id, status, contentType, null, error, createdAt, finishedAt);
+        }
+    }
+}
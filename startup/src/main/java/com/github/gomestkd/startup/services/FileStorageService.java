@@ -11,10 +11,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.stream.Stream;
 
 @Service
 public class FileStorageService {
@@ -57,6 +63,68 @@ public class FileStorageService {
         }
     }
 
+    public String storeFile(String fileName, InputStream content) {
+        try {
+            Path targetLocation = this.fileStorageLocation.resolve(fileName).normalize();
+            if (!targetLocation.startsWith(this.fileStorageLocation)) {
+                logger.error("Sorry! Filename Contains a Invalid path Sequence {}", fileName);
+                throw new FileStorageException("Sorry! Filename Contains a Invalid path Sequence " + fileName);
+            }
+
+            logger.info("Saving generated file {} in Disk", fileName);
+            Files.copy(content, targetLocation, StandardCopyOption.REPLACE_EXISTING);
+            return fileName;
+        } catch (IOException e) {
+            logger.error("Could not store file {}. Please try Again!", fileName);
+            throw new FileStorageException("Could not store file " + fileName + ". Please try Again!", e);
+        }
+    }
+
+    public OutputStream openOutputStream(String fileName) {
+        try {
+            Path targetLocation = this.fileStorageLocation.resolve(fileName).normalize();
+            if (!targetLocation.startsWith(this.fileStorageLocation)) {
+                logger.error("Sorry! Filename Contains a Invalid path Sequence {}", fileName);
+                throw new FileStorageException("Sorry! Filename Contains a Invalid path Sequence " + fileName);
+            }
+            return Files.newOutputStream(targetLocation);
+        } catch (IOException e) {
+            logger.error("Could not create file {}. Please try Again!", fileName);
+            throw new FileStorageException("Could not create file " + fileName + ". Please try Again!", e);
+        }
+    }
+
+    public void deleteFile(String fileName) {
+        try {
+            Files.deleteIfExists(this.fileStorageLocation.resolve(fileName).normalize());
+        } catch (IOException e) {
+            logger.warn("Could not delete file {}", fileName, e);
+        }
+    }
+
+    /**
+     * Deletes the stored files whose name starts with {@code prefix} and that were last modified before {@code cutoff}.
+     *
+     * @return the number of files deleted
+     */
+    public int deleteFilesOlderThan(String prefix, Instant cutoff) {
+        FileTime limit = FileTime.from(cutoff);
+        int deleted = 0;
+        try (Stream<Path> files = Files.list(this.fileStorageLocation)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (!file.getFileName().toString().startsWith(prefix)) continue;
+                try {
+                    if (Files.getLastModifiedTime(file).compareTo(limit) < 0 && Files.deleteIfExists(file)) deleted++;
+                } catch (IOException e) {
+                    logger.warn("Could not delete file {}", file.getFileName(), e);
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Could not list the files in {}", this.fileStorageLocation, e);
+        }
+        return deleted;
+    }
+
     public Resource loadFileAsResource(String fileName) {
         try {
             Path filePath = this.fileStorageLocation.resolve(fileName).normalize();
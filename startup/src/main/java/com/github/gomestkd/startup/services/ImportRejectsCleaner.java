@@ -0,0 +1,69 @@
+package com.github.gomestkd.startup.services;
+
+import com.github.gomestkd.startup.config.ImportConfig;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deletes the rejects CSVs written by imports once they are older than {@code import.rejects-retention}.
+ * The sweep runs every retention period, so a file is kept for between one and two periods.
+ */
+@Component
+public class ImportRejectsCleaner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportRejectsCleaner.class);
+
+    static final String REJECTS_PREFIX = "import-rejects-";
+
+    private final FileStorageService fileStorageService;
+    private final ImportConfig config;
+    private final boolean virtualThreads;
+    private ScheduledExecutorService executor;
+
+    public ImportRejectsCleaner(FileStorageService fileStorageService, ImportConfig config,
+                                @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.fileStorageService = fileStorageService;
+        this.config = config;
+        this.virtualThreads = virtualThreads;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (executor != null) return;
+
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("import-rejects-cleaner").factory()
+                : Thread.ofPlatform().name("import-rejects-cleaner").daemon(true).factory();
+        executor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+
+        long retentionMillis = Math.max(config.getRejectsRetention().toMillis(), 1000L);
+        executor.scheduleWithFixedDelay(this::deleteExpired, 0, retentionMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    synchronized void shutdown() {
+        if (executor != null) executor.shutdownNow();
+    }
+
+    void deleteExpired() {
+        try {
+            int deleted = fileStorageService.deleteFilesOlderThan(REJECTS_PREFIX,
+                    Instant.now().minus(config.getRejectsRetention()));
+            if (deleted > 0) logger.info("Deleted {} expired import rejects file(s).", deleted);
+        } catch (Exception e) {
+            // Never let an exception escape: it would cancel the sweep's schedule.
+            logger.error("Import rejects cleanup failed.", e);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.github.gomestkd.startup.services;
+
+import com.github.gomestkd.startup.config.PasswordHashingConfig;
+import com.github.gomestkd.startup.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs password hashing on a dedicated, core-sized pool so a burst of sign-ins cannot take
+ * the CPU away from the request threads. When the pool and its queue are full, callers get
+ * a 429 right away instead of piling up behind the hashes already in flight.
+ */
+@Service
+public class PasswordHashingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingService.class);
+
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitMillis;
+    private final Timer hashTimer;
+    private final Timer waitTimer;
+    private final Counter rejections;
+
+    public PasswordHashingService(PasswordHashingConfig config, MeterRegistry meterRegistry) {
+        int poolSize = config.getPoolSize() > 0 ? config.getPoolSize() : Runtime.getRuntime().availableProcessors();
+        BlockingQueue<Runnable> queue = config.getQueueCapacity() == 0
+                ? new SynchronousQueue<>()
+                : new ArrayBlockingQueue<>(config.getQueueCapacity());
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, queue,
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.maxWaitMillis = config.getMaxWait().toMillis();
+
+        Gauge.builder("auth.hashing.queue.size", executor, e -> e.getQueue().size())
+                .description("Password hashing tasks waiting for a thread")
+                .register(meterRegistry);
+        Gauge.builder("auth.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing tasks currently running")
+                .register(meterRegistry);
+        this.hashTimer = Timer.builder("auth.hashing.duration")
+                .description("Time spent hashing or verifying a password")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("auth.hashing.wait")
+                .description("Time a password hashing task spent queued")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("auth.hashing.rejected")
+                .description("Password hashing tasks rejected because the pool was saturated")
+                .register(meterRegistry);
+
+        logger.info("Password hashing pool configured: {} threads, queue capacity = {}.", poolSize, config.getQueueCapacity());
+    }
+
+    /**
+     * Runs the given hashing work on the hashing pool and waits for its result.
+     * Runtime exceptions thrown by the work, such as a {@code BadCredentialsException},
+     * are rethrown unchanged.
+     */
+    public <T> T execute(Supplier<T> work) {
+        long queuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.record(work);
+            });
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            logger.warn("Password hashing rejected, {} running and {} queued.", executor.getActiveCount(), executor.getQueue().size());
+            throw new TooManyRequestsException("Too many authentication requests, please try again later!");
+        }
+
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejections.increment();
+            throw new TooManyRequestsException("Too many authentication requests, please try again later!");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            if (e.getCause() instanceof Error error) throw error;
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,35 +1,62 @@
 package com.github.gomestkd.startup.services;
 
 import com.github.gomestkd.startup.controllers.PersonController;
+import com.github.gomestkd.startup.config.ImportConfig;
+import com.github.gomestkd.startup.data.dto.ImportErrorDTO;
+import com.github.gomestkd.startup.data.dto.ImportSummaryDTO;
 import com.github.gomestkd.startup.data.dto.PersonDTO;
+import com.github.gomestkd.startup.data.projection.PersonSummary;
 import com.github.gomestkd.startup.exception.BadRequestException;
 import com.github.gomestkd.startup.exception.FileStorageException;
 import com.github.gomestkd.startup.exception.RequiredObjectIsNullException;
 import com.github.gomestkd.startup.exception.ResourceNotFoundException;
 import com.github.gomestkd.startup.file.exporter.contract.PersonExporter;
+import com.github.gomestkd.startup.file.exporter.contract.PersonStreamExporter;
 import com.github.gomestkd.startup.file.exporter.factory.FileExporterFactory;
-import com.github.gomestkd.startup.file.importer.contract.FileImporter;
+import com.github.gomestkd.startup.file.importer.contract.ImportedRow;
+import com.github.gomestkd.startup.file.importer.contract.StreamingFileImporter;
+import com.github.gomestkd.startup.file.importer.validation.ImportReport;
+import com.github.gomestkd.startup.file.importer.validation.PersonRowValidator;
 import com.github.gomestkd.startup.file.importer.factory.FileImporterFactory;
 import com.github.gomestkd.startup.model.Person;
+import com.github.gomestkd.startup.pagination.KeysetCursor;
+import com.github.gomestkd.startup.pagination.SlicedModels;
+import com.github.gomestkd.startup.repository.PersonBulkRepository;
 import com.github.gomestkd.startup.repository.PersonRepository;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.NestedExceptionUtils;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.github.gomestkd.startup.mapper.ObjectMapper.parseObject;
 
@@ -41,24 +68,86 @@ public class PersonService {
     private final FileImporterFactory importerFactory;
     private final FileExporterFactory exporterFactory;
     private final PagedResourcesAssembler<PersonDTO> assembler;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final PersonBulkRepository bulkRepository;
+    private final ImportConfig importConfig;
+    private final FileStorageService fileStorageService;
 
     public PersonService(PersonRepository repository, FileImporterFactory importerFactory,
-                         FileExporterFactory exporterFactory, PagedResourcesAssembler<PersonDTO> assembler) {
+                         FileExporterFactory exporterFactory, PagedResourcesAssembler<PersonDTO> assembler,
+                         EntityManager entityManager, PlatformTransactionManager transactionManager,
+                         PersonBulkRepository bulkRepository, ImportConfig importConfig,
+                         FileStorageService fileStorageService) {
         this.repository = repository;
         this.importerFactory = importerFactory;
         this.exporterFactory = exporterFactory;
         this.assembler = assembler;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.bulkRepository = bulkRepository;
+        this.importConfig = importConfig;
+        this.fileStorageService = fileStorageService;
     }
 
-    public PagedModel<EntityModel<PersonDTO>> findAll(Pageable pageable) {
+    public PagedModel<EntityModel<PersonDTO>> findAll(Pageable pageable, boolean withTotal, boolean approximateTotal) {
         logger.info("Finding all People!");
-        Page<Person> peoplePage = repository.findAll(pageable);
-        return buildPagedModel(pageable, peoplePage);
+        if (withTotal) {
+            Page<PersonSummary> peoplePage = readOnlyTransaction.execute(status -> repository.findAllSummaries(pageable));
+            return buildPagedModel(pageable, peoplePage);
+        }
+        Slice<PersonSummary> peopleSlice = readOnlyTransaction.execute(status -> repository.findSummarySlice(pageable));
+        Slice<PersonDTO> people = peopleSlice.map(person -> {
+            PersonDTO dto = parseObject(person, PersonDTO.class);
+            addHateoasLinks(dto);
+            return dto;
+        });
+        return SlicedModels.of(people, approximateTotal ? repository::estimateCount : null,
+                page -> sliceLink(page, approximateTotal));
+    }
+
+    public CollectionModel<PersonDTO> findAllByCursor(String cursor, int size) {
+        logger.info("Finding People by cursor!");
+        if (size < 1) throw new BadRequestException("Page size must be greater than zero!");
+
+        List<Person> people = (cursor == null || cursor.isBlank())
+                ? repository.findFirstByKeyset(size + 1)
+                : findNextByKeyset(KeysetCursor.decode(cursor), size + 1);
+
+        List<PersonDTO> content = people.stream()
+                .limit(size)
+                .map(person -> {
+                    PersonDTO dto = parseObject(person, PersonDTO.class);
+                    addHateoasLinks(dto);
+                    return dto;
+                })
+                .toList();
+
+        CollectionModel<PersonDTO> model = CollectionModel.of(content, WebMvcLinkBuilder.linkTo(
+                WebMvcLinkBuilder.methodOn(PersonController.class).findAllByCursor(cursor, size)).withSelfRel());
+
+        if (people.size() > size) {
+            Person last = people.get(size - 1);
+            String next = new KeysetCursor(last.getFirstName(), last.getId()).encode();
+            model.add(WebMvcLinkBuilder.linkTo(
+                    WebMvcLinkBuilder.methodOn(PersonController.class).findAllByCursor(next, size))
+                    .withRel(IanaLinkRelations.NEXT));
+        }
+        return model;
+    }
+
+    private List<Person> findNextByKeyset(KeysetCursor cursor, int limit) {
+        return repository.findNextByKeyset(cursor.sortKey(), cursor.id(), limit);
     }
 
-    public PagedModel<EntityModel<PersonDTO>> findByName(String firstName, Pageable pageable) {
+    public PagedModel<EntityModel<PersonDTO>> findByName(String name, boolean includeLastName, Pageable pageable) {
         logger.info("Finding People by name!");
-        Page<Person> peoplePage = repository.findPeopleByName(firstName, pageable);
+        Page<PersonSummary> peoplePage = readOnlyTransaction.execute(status -> includeLastName
+                ? repository.findPeopleByFirstOrLastName(name, pageable)
+                : repository.findPeopleByName(name, pageable));
         return buildPagedModel(pageable, peoplePage);
     }
 
@@ -77,10 +166,37 @@ public class PersonService {
         }
     }
 
+    /**
+     * Writes a page of people straight to {@code outputStream}, for callers that store the file themselves.
+     */
+    public void exportPage(Pageable pageable, String contentType, OutputStream outputStream) throws IOException {
+        logger.info("Exporting a People page to a stream!");
+
+        PersonStreamExporter personExporter = this.exporterFactory.getPersonStreamExporter(contentType);
+        List<PersonDTO> people = repository.findAll(pageable)
+                .map(person -> parseObject(person, PersonDTO.class))
+                .getContent();
+        personExporter.exportPeople(people.stream(), outputStream);
+    }
+
+    public StreamingResponseBody exportAll(Sort sort, String acceptHeader) {
+        logger.info("Streaming export of all People!");
+
+        PersonStreamExporter personExporter = this.exporterFactory.getPersonStreamExporter(acceptHeader);
+
+        return outputStream -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Person> people = repository.streamAll(sort)) {
+                personExporter.exportPeople(people.map(this::detachAndParse), outputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error during streaming file export!", e);
+            }
+        });
+    }
+
     public Resource exportPerson(Long id) {
         logger.info("Exporting data of one Person !");
 
-        PersonDTO person = repository.findById(id)
+        PersonDTO person = repository.findWithBooksById(id)
                 .map(entity -> parseObject(entity, PersonDTO.class))
                 .orElseThrow(() -> new ResourceNotFoundException("No records found for this ID!"));
 
@@ -113,32 +229,109 @@ public class PersonService {
         return dto;
     }
 
-    public Set<PersonDTO> massCreation(MultipartFile file) {
+    public ImportSummaryDTO massCreation(MultipartFile file) {
         logger.info("Importing People from file!");
 
         if (file.isEmpty()) throw new BadRequestException("Please set a Valid File!");
 
-        try(InputStream inputStream = file.getInputStream()){
-            String filename = Optional.ofNullable(file.getOriginalFilename())
-                    .orElseThrow(() -> new BadRequestException("File name cannot be null"));
-            FileImporter fileImporter = this.importerFactory.getImporter(filename);
-
-            Set<Person> entities = fileImporter.importFile(inputStream).stream()
-                    .map(dto -> repository.save(parseObject(dto, Person.class)))
-                    .collect(Collectors.toSet());
-
-            return entities.stream()
-                    .map(entity -> {
-                        PersonDTO dto = parseObject(entity, PersonDTO.class);
-                        addHateoasLinks(dto);
-                        return dto;
-                    })
-                    .collect(Collectors.toSet());
+        String filename = Optional.ofNullable(file.getOriginalFilename())
+                .orElseThrow(() -> new BadRequestException("File name cannot be null"));
+        StreamingFileImporter fileImporter = this.importerFactory.getStreamingImporter(filename);
+        String rejectsFile = ImportRejectsCleaner.REJECTS_PREFIX + UUID.randomUUID() + ".csv";
+
+        long start = System.currentTimeMillis();
+        try (InputStream inputStream = file.getInputStream();
+             ImportReport report = new ImportReport(importConfig.getMaxReportedErrors(), rejectsFile,
+                     () -> fileStorageService.openOutputStream(rejectsFile))) {
+            fileImporter.importBatches(inputStream, importConfig.getChunkSize(), batch -> {
+                importBatch(batch, report);
+                logger.info("Imported {} People, {} rejected, in {} ms.",
+                        report.getAccepted(), report.getRejected(), System.currentTimeMillis() - start);
+            });
+
+            long elapsed = System.currentTimeMillis() - start;
+            logger.info("Import finished: {} People saved and {} rejected in {} ms.",
+                    report.getAccepted(), report.getRejected(), elapsed);
+            return report.toSummary(filename, elapsed);
+        } catch (BadRequestException e) {
+            fileStorageService.deleteFile(rejectsFile);
+            throw e;
         } catch (Exception e) {
-            throw new FileStorageException("Error processing the file!");
+            fileStorageService.deleteFile(rejectsFile);
+            throw new FileStorageException("Error processing the file!", e);
+        }
+    }
+
+    // Invalid rows are reported and skipped; in BATCH mode a chunk that fails to insert is split until
+    // only the rows that cannot be saved are left, and those are rejected.
+    private void importBatch(List<ImportedRow> batch, ImportReport report) {
+        List<ImportedRow> valid = new ArrayList<>(batch.size());
+        for (ImportedRow row : batch) {
+            List<ImportErrorDTO> errors = PersonRowValidator.validate(row);
+            if (errors.isEmpty()) {
+                valid.add(row);
+            } else {
+                reject(report, row, errors);
+            }
+        }
+        if (valid.isEmpty()) return;
+
+        if (importConfig.getMode() == ImportConfig.Mode.BATCH) {
+            try {
+                report.accept(insertChunk(valid));
+            } catch (RuntimeException e) {
+                logger.warn("Could not save the batch starting at line {}, retrying it in halves.",
+                        valid.get(0).lineNumber(), e);
+                insertHalves(valid, report);
+            }
+        } else {
+            for (ImportedRow row : valid) {
+                try {
+                    repository.save(parseObject(row.person(), Person.class));
+                    report.accept(1);
+                } catch (RuntimeException e) {
+                    reject(report, row, saveError(row, e));
+                }
+            }
+        }
+    }
+
+    private void insertHalves(List<ImportedRow> failed, ImportReport report) {
+        int middle = failed.size() / 2;
+        for (List<ImportedRow> half : List.of(failed.subList(0, middle), failed.subList(middle, failed.size()))) {
+            if (half.isEmpty()) continue;
+            try {
+                report.accept(insertChunk(half));
+            } catch (RuntimeException e) {
+                if (half.size() == 1) {
+                    reject(report, half.get(0), saveError(half.get(0), e));
+                } else {
+                    insertHalves(half, report);
+                }
+            }
         }
     }
 
+    private int insertChunk(List<ImportedRow> chunk) {
+        List<Person> entities = chunk.stream()
+                .map(row -> parseObject(row.person(), Person.class))
+                .toList();
+        return writeTransaction.execute(status -> bulkRepository.insertAll(entities)).size();
+    }
+
+    private void reject(ImportReport report, ImportedRow row, List<ImportErrorDTO> errors) {
+        try {
+            report.reject(row, errors);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write the rejects file!", e);
+        }
+    }
+
+    private List<ImportErrorDTO> saveError(ImportedRow row, RuntimeException e) {
+        return List.of(new ImportErrorDTO(row.lineNumber(), null,
+                "Could not be saved: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage()));
+    }
+
     public PersonDTO update(PersonDTO person) {
         if (person == null) throw new RequiredObjectIsNullException();
 
@@ -183,7 +376,13 @@ public class PersonService {
         repository.delete(entity);
     }
 
-    private PagedModel<EntityModel<PersonDTO>> buildPagedModel(Pageable pageable, Page<Person> people) {
+    private PersonDTO detachAndParse(Person person) {
+        PersonDTO dto = parseObject(person, PersonDTO.class);
+        entityManager.detach(person);
+        return dto;
+    }
+
+    private PagedModel<EntityModel<PersonDTO>> buildPagedModel(Pageable pageable, Page<PersonSummary> people) {
         Page<PersonDTO> peopleWithLinks = people.map(person -> {
             PersonDTO dto = parseObject(person, PersonDTO.class);
             addHateoasLinks(dto);
@@ -195,11 +394,21 @@ public class PersonService {
                                 .findAll(
                                         pageable.getPageNumber(),
                                         pageable.getPageSize(),
-                                        String.valueOf(pageable.getSort())))
+                                        String.valueOf(pageable.getSort()),
+                                        null,
+                                        null))
                 .withSelfRel();
         return assembler.toModel(peopleWithLinks, findAllLink);
     }
 
+    private Link sliceLink(Pageable pageable, boolean approximateTotal) {
+        return WebMvcLinkBuilder.linkTo(
+                        WebMvcLinkBuilder.methodOn(PersonController.class)
+                                .findAll(pageable.getPageNumber(), pageable.getPageSize(), SlicedModels.direction(pageable),
+                                        false, approximateTotal))
+                .withSelfRel();
+    }
+
     private void addHateoasLinks(PersonDTO dto) {
         //...
     }
@@ -1,24 +1,67 @@
 package com.github.gomestkd.startup.services;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.gomestkd.startup.config.UserCacheConfig;
 import com.github.gomestkd.startup.repository.UserRepository;
 import com.github.gomestkd.startup.model.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 @Service
 public class UserService implements UserDetailsService {
 
+    private static final Logger logger = LoggerFactory.getLogger(UserService.class);
+
     private final UserRepository userRepository;
+    private final AsyncCache<String, User> userCache;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, UserCacheConfig cacheConfig, MeterRegistry meterRegistry) {
         this.userRepository = userRepository;
+        this.userCache = Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getMaxSize())
+                .expireAfterWrite(cacheConfig.getTtl())
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, userCache, "userDetails");
+        logger.info("User details cache configured: max size = {}, ttl = {}.", cacheConfig.getMaxSize(), cacheConfig.getTtl());
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username);
+        // The future is published before the lookup so concurrent callers share one query, and the
+        // query runs outside the cache's compute lock, where a JDBC call would pin a virtual thread.
+        // evict() removes the pending future, so a load that started before it is never cached.
+        CompletableFuture<User> pending = userCache.getIfPresent(username);
+        if (pending == null) {
+            CompletableFuture<User> loading = new CompletableFuture<>();
+            pending = userCache.asMap().putIfAbsent(username, loading);
+            if (pending == null) {
+                pending = loading;
+                try {
+                    loading.complete(userRepository.findByUsername(username));
+                } catch (RuntimeException e) {
+                    loading.completeExceptionally(e);
+                }
+            }
+        }
+
+        User user;
+        try {
+            user = pending.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
 
         if (user != null) {
             return user;
@@ -26,4 +69,18 @@ public class UserService implements UserDetailsService {
             throw new UsernameNotFoundException("User not found with username: " + username);
         }
     }
-}
\ No newline at end of file
+
+    public void evict(String username) {
+        logger.debug("Evicting user '{}' from the user details cache.", username);
+        userCache.synchronous().invalidate(username);
+    }
+
+    public void evictAll() {
+        logger.debug("Evicting all users from the user details cache.");
+        userCache.synchronous().invalidateAll();
+    }
+
+    public CacheStats getCacheStats() {
+        return userCache.synchronous().stats();
+    }
+}
@@ -0,0 +1,11 @@
+CREATE SEQUENCE IF NOT EXISTS person_seq INCREMENT BY 50;
+SELECT setval('person_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM person), false);
+ALTER TABLE person ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS person_id_seq;
+ALTER SEQUENCE person_seq OWNED BY person.id;
+
+CREATE SEQUENCE IF NOT EXISTS books_seq INCREMENT BY 50;
+SELECT setval('books_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM books), false);
+ALTER TABLE books ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS books_id_seq;
+ALTER SEQUENCE books_seq OWNED BY books.id;
@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_person_first_name_id ON person (first_name, id);
+CREATE INDEX IF NOT EXISTS idx_books_title_id ON books (title, id);
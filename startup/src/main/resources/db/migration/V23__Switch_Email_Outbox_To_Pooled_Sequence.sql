@@ -0,0 +1,5 @@
+CREATE SEQUENCE IF NOT EXISTS email_outbox_seq INCREMENT BY 50;
+SELECT setval('email_outbox_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM email_outbox), false);
+ALTER TABLE email_outbox ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS email_outbox_id_seq;
+ALTER SEQUENCE email_outbox_seq OWNED BY email_outbox.id;
@@ -0,0 +1,33 @@
+package com.github.gomestkd.startup.file.exporter.report;
+
+import com.github.gomestkd.startup.config.ReportConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.sf.jasperreports.engine.JREmptyDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportTemplateRegistryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void compileAndFillAreTimedPerTemplate() throws Exception {
+        ReportConfig config = new ReportConfig();
+        config.setTemplates(List.of("people", "books"));
+        ReportTemplateRegistry registry = new ReportTemplateRegistry(config, new DefaultResourceLoader(), meterRegistry);
+        registry.init();
+
+        registry.fill("people", new HashMap<>(), new JREmptyDataSource(0));
+        registry.fill("people", new HashMap<>(), new JREmptyDataSource(0));
+
+        assertEquals(1, meterRegistry.get("report.compile").tag("template", "people").timer().count());
+        assertEquals(1, meterRegistry.get("report.compile").tag("template", "books").timer().count());
+        assertEquals(2, meterRegistry.get("report.fill").tag("template", "people").timer().count());
+        assertNull(meterRegistry.find("report.fill").tag("template", "books").timer());
+    }
+}
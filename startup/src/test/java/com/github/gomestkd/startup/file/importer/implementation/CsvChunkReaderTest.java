@@ -0,0 +1,52 @@
+package com.github.gomestkd.startup.file.importer.implementation;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvChunkReaderTest {
+
+    @Test
+    void chunksEndOnRecordBoundariesOutsideQuotes() throws IOException {
+        String csv = "first_name,address\n" +
+                "Ana,\"Rua A,\n10\"\n" +
+                "Bia,\"Say \"\"hi\"\"\n\"\n" +
+                "Caio,5\" screen\n" +
+                "Davi,Rua D\n";
+
+        List<CsvChunkReader.Chunk> chunks = readAll(csv, 4);
+
+        assertEquals(csv, String.join("", chunks.stream().map(CsvChunkReader.Chunk::text).toList()));
+        assertEquals(List.of(
+                "first_name,address\n",
+                "Ana,\"Rua A,\n10\"\n",
+                "Bia,\"Say \"\"hi\"\"\n\"\n",
+                "Caio,5\" screen\n",
+                "Davi,Rua D\n"
+        ), chunks.stream().map(CsvChunkReader.Chunk::text).toList());
+        assertEquals(List.of(1L, 2L, 4L, 6L, 7L), chunks.stream().map(CsvChunkReader.Chunk::firstLine).toList());
+    }
+
+    @Test
+    void lastRecordWithoutLineBreakIsKept() throws IOException {
+        List<CsvChunkReader.Chunk> chunks = readAll("a\nb", 1024);
+
+        assertEquals(1, chunks.size());
+        assertEquals("a\nb", chunks.get(0).text());
+    }
+
+    private List<CsvChunkReader.Chunk> readAll(String csv, int chunkChars) throws IOException {
+        CsvChunkReader reader = new CsvChunkReader(new StringReader(csv), chunkChars);
+        List<CsvChunkReader.Chunk> chunks = new ArrayList<>();
+        CsvChunkReader.Chunk chunk;
+        while ((chunk = reader.next()) != null) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+}
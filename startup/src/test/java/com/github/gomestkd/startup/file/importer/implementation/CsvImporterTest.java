@@ -0,0 +1,57 @@
+package com.github.gomestkd.startup.file.importer.implementation;
+
+import com.github.gomestkd.startup.config.ImportConfig;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvImporterTest {
+
+    @Test
+    void parallelParsingKeepsFileOrder() throws IOException {
+        StringBuilder csv = new StringBuilder("first_name,last_name,address,gender\n");
+        for (int i = 0; i < 5_000; i++) {
+            csv.append("Name").append(i).append(",Last,\"Street ").append(i).append(",\nBlock B\",Male\n");
+        }
+
+        List<String> sequential = importNames(csv.toString(), 1);
+        List<String> parallel = importNames(csv.toString(), 4);
+
+        assertEquals(5_000, sequential.size());
+        assertEquals(sequential, parallel);
+        // Cada registro ocupa duas linhas e termina na linha 1 + 2 * n.
+        assertEquals("3:Name0", parallel.get(0));
+        assertEquals("10001:Name4999", parallel.get(4_999));
+    }
+
+    @Test
+    void rowWithMissingValuesIsStillDelivered() throws IOException {
+        String csv = "first_name,last_name,address,gender\nAna,Silva\n";
+
+        List<String> rows = importNames(csv, 1);
+
+        assertEquals(List.of("2:Ana"), rows);
+    }
+
+    private List<String> importNames(String csv, int parallelism) throws IOException {
+        ImportConfig config = new ImportConfig();
+        config.setParseParallelism(parallelism);
+        config.setParseChunkChars(1024);
+        CsvImporter importer = new CsvImporter(config);
+
+        List<String> names = new ArrayList<>();
+        try {
+            importer.importRows(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                    row -> names.add(row.lineNumber() + ":" + row.person().getFirstName()));
+        } finally {
+            importer.shutdown();
+        }
+        return names;
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.gomestkd.startup.file.importer.implementation;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpooledSharedStringsTest {
+
+    private static final String SHARED_STRINGS = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <sst xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main" count="5" uniqueCount="4">
+              <si><t>Ana</t></si>
+              <si><r><rPr><b/></rPr><t>Rua </t></r><r><t xml:space="preserve">das Flores, 12</t></r></si>
+              <si><t>東京</t><rPh sb="0" eb="2"><t>トウキョウ</t></rPh></si>
+              <si><t/></si>
+            </sst>
+            """;
+
+    @Test
+    void readsEveryEntryBackFromTheSpool() throws Exception {
+        try (SpooledSharedStrings strings = SpooledSharedStrings.spool(
+                new ByteArrayInputStream(SHARED_STRINGS.getBytes(StandardCharsets.UTF_8)))) {
+            assertEquals(4, strings.getUniqueCount());
+            assertEquals(5, strings.getCount());
+            assertEquals("Ana", strings.getItemAt(0).getString());
+            assertEquals("Rua das Flores, 12", strings.getItemAt(1).getString());
+            assertEquals("東京", strings.getItemAt(2).getString());
+            assertEquals("", strings.getItemAt(3).getString());
+            assertEquals("Ana", strings.getItemAt(0).getString());
+            assertThrows(IndexOutOfBoundsException.class, () -> strings.getItemAt(4));
+        }
+    }
+
+    @Test
+    void emptyTableHasNoEntries() throws Exception {
+        try (SpooledSharedStrings strings = SpooledSharedStrings.spool((InputStream) null)) {
+            assertEquals(0, strings.getUniqueCount());
+            assertThrows(IndexOutOfBoundsException.class, () -> strings.getItemAt(0));
+        }
+    }
+}
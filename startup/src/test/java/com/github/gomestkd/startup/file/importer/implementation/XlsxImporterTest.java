@@ -0,0 +1,82 @@
+package com.github.gomestkd.startup.file.importer.implementation;
+
+import com.github.gomestkd.startup.data.dto.PersonDTO;
+import com.github.gomestkd.startup.file.importer.contract.ImportedRow;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class XlsxImporterTest {
+
+    @Test
+    void skipsHeaderAndBlankRowsAndKeepsSheetLineNumbers() throws IOException {
+        List<ImportedRow> rows = importRows(workbook(sheet -> {
+            row(sheet, 0, "first_name", "last_name", "address", "gender");
+            row(sheet, 1, "Ana", "Silva", "Street 1", "Female");
+            row(sheet, 2, "", "  ");
+            // Row 3 is missing from the sheet entirely.
+            row(sheet, 4, "Bia", null, null, "Female");
+        }));
+
+        assertEquals(List.of(2L, 5L), rows.stream().map(ImportedRow::lineNumber).toList());
+        PersonDTO ana = rows.get(0).person();
+        assertEquals("Ana", ana.getFirstName());
+        assertEquals("Silva", ana.getLastName());
+        assertEquals("Street 1", ana.getAddress());
+        assertEquals("Female", ana.getGender());
+        assertTrue(ana.getEnabled());
+    }
+
+    @Test
+    void mapsSparseCellsToTheirOwnColumns() throws IOException {
+        List<ImportedRow> rows = importRows(workbook(sheet -> {
+            row(sheet, 0, "first_name", "last_name", "address", "gender");
+            row(sheet, 1, "Bia", null, null, "Female");
+            Row carla = row(sheet, 2, "  Carla ", "Souza", null, "Female", "ignored");
+            carla.createCell(2).setCellValue(42);
+        }));
+
+        PersonDTO bia = rows.get(0).person();
+        assertEquals("Bia", bia.getFirstName());
+        assertNull(bia.getLastName());
+        assertNull(bia.getAddress());
+        assertEquals("Female", bia.getGender());
+
+        PersonDTO carla = rows.get(1).person();
+        assertEquals("Carla", carla.getFirstName());
+        assertEquals("42", carla.getAddress());
+        assertEquals("Female", carla.getGender());
+    }
+
+    private static List<ImportedRow> importRows(byte[] workbook) throws IOException {
+        List<ImportedRow> rows = new ArrayList<>();
+        new XlsxImporter().importRows(new ByteArrayInputStream(workbook), rows::add);
+        return rows;
+    }
+
+    private static byte[] workbook(Consumer<Sheet> content) throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            content.accept(workbook.createSheet("People"));
+            workbook.write(out);
+            return out.toByteArray();
+        }
+    }
+
+    private static Row row(Sheet sheet, int index, String... values) {
+        Row row = sheet.createRow(index);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) row.createCell(i).setCellValue(values[i]);
+        }
+        return row;
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.gomestkd.startup.file.importer.validation;
+
+import com.github.gomestkd.startup.data.dto.ImportErrorDTO;
+import com.github.gomestkd.startup.data.dto.ImportSummaryDTO;
+import com.github.gomestkd.startup.data.dto.PersonDTO;
+import com.github.gomestkd.startup.file.importer.contract.ImportedRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImportReportTest {
+
+    @Test
+    void validRowHasNoErrors() {
+        assertTrue(PersonRowValidator.validate(row(2, "Ana", "Silva", "Rua A", "Female")).isEmpty());
+    }
+
+    @Test
+    void invalidRowReportsEveryColumn() {
+        List<ImportErrorDTO> errors = PersonRowValidator.validate(row(7, "Ana", null, "Rua A", "Unknown"));
+
+        assertEquals(List.of(
+                new ImportErrorDTO(7, "last_name", "Value is required"),
+                new ImportErrorDTO(7, "gender", "Value must have at most 6 characters")
+        ), errors);
+    }
+
+    @Test
+    void keepsOnlyTheFirstErrorsButWritesEveryRejectedRow() throws IOException {
+        ByteArrayOutputStream rejects = new ByteArrayOutputStream();
+        ImportSummaryDTO summary;
+        try (ImportReport report = new ImportReport(1, "rejects.csv", () -> rejects)) {
+            report.accept(3);
+            for (long line = 2; line <= 4; line++) {
+                ImportedRow row = row(line, "", "Silva", "Rua A", "Male");
+                report.reject(row, PersonRowValidator.validate(row));
+            }
+            summary = report.toSummary("people.csv", 10);
+        }
+
+        assertEquals(3, summary.getAccepted());
+        assertEquals(3, summary.getRejected());
+        assertEquals("rejects.csv", summary.getRejectsFile());
+        assertEquals(1, summary.getErrors().size());
+        assertTrue(summary.isErrorsTruncated());
+
+        List<String> lines = rejects.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals("line,column,error,first_name,last_name,address,gender", lines.get(0));
+        assertEquals("4,first_name,Value is required,,Silva,Rua A,Male", lines.get(3));
+    }
+
+    @Test
+    void noRejectsFileWithoutRejections() throws IOException {
+        try (ImportReport report = new ImportReport(10, "rejects.csv", () -> {
+            throw new AssertionError("rejects file must not be opened");
+        })) {
+            report.accept(1);
+            assertNull(report.toSummary("people.csv", 1).getRejectsFile());
+        }
+    }
+
+    private ImportedRow row(long line, String firstName, String lastName, String address, String gender) {
+        PersonDTO person = new PersonDTO();
+        person.setFirstName(firstName);
+        person.setLastName(lastName);
+        person.setAddress(address);
+        person.setGender(gender);
+        return new ImportedRow(line, person);
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.gomestkd.startup.hateoas;
+
+import com.github.gomestkd.startup.config.HateoasConfig;
+import com.github.gomestkd.startup.data.dto.BookDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookLinkFactoryTest {
+
+    @AfterEach
+    void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void expandsControllerTemplatesAgainstCurrentRequest() {
+        bindRequest(null);
+        BookDTO dto = new BookDTO();
+        dto.setId(7L);
+
+        new BookLinkFactory(new HateoasConfig()).addLinks(dto);
+
+        assertEquals("http://localhost/api/v1/book/7", dto.getRequiredLink(IanaLinkRelations.SELF).getHref());
+        assertEquals("http://localhost/api/v1/book?page=1&size=12&direction=asc", dto.getRequiredLink("findAll").getHref());
+        assertEquals("http://localhost/api/v1/book", dto.getRequiredLink("update").getHref());
+        assertEquals("http://localhost/api/v1/book/7", dto.getRequiredLink("delete").getHref());
+        assertEquals(5, dto.getLinks().toList().size());
+    }
+
+    @Test
+    void halOnlyModeSkipsLinksForPlainJson() {
+        HateoasConfig config = new HateoasConfig();
+        config.setLinksOnlyForHal(true);
+        BookLinkFactory factory = new BookLinkFactory(config);
+
+        bindRequest("application/json");
+        BookDTO json = new BookDTO();
+        json.setId(1L);
+        factory.addLinks(json);
+        assertFalse(json.hasLinks());
+
+        bindRequest(MediaTypes.HAL_JSON_VALUE);
+        BookDTO hal = new BookDTO();
+        hal.setId(1L);
+        factory.addLinks(hal);
+        assertTrue(hal.hasLinks());
+    }
+
+    private void bindRequest(String accept) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (accept != null) request.addHeader(HttpHeaders.ACCEPT, accept);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+}
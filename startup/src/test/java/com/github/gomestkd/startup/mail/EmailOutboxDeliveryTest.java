@@ -0,0 +1,159 @@
+package com.github.gomestkd.startup.mail;
+
+import com.github.gomestkd.startup.config.EmailConfig;
+import com.github.gomestkd.startup.config.EmailOutboxConfig;
+import com.github.gomestkd.startup.config.EmailTransportConfig;
+import com.github.gomestkd.startup.model.EmailOutboxMessage;
+import com.github.gomestkd.startup.model.EmailOutboxMessage.Status;
+import com.github.gomestkd.startup.repository.EmailOutboxRepository;
+import com.github.gomestkd.startup.services.FileStorageService;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Runs the dispatcher against a real outbox table and a GreenMail SMTP server.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class EmailOutboxDeliveryTest {
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP.dynamicPort());
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private EmailOutboxRepository repository;
+
+    private final EmailOutboxConfig config = new EmailOutboxConfig();
+    private EmailSender emailSender;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        config.setMaxAttempts(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (emailSender != null) emailSender.shutdown();
+    }
+
+    @Test
+    void drainSendsDueMessagesAndMarksThemSent() throws Exception {
+        EmailOutboxMessage first = repository.save(new EmailOutboxMessage("ana@example.com", "News", "Body"));
+        EmailOutboxMessage second = repository.save(new EmailOutboxMessage("bia@example.com, carla@example.com", "News", "Body"));
+
+        dispatcher(greenMail.getSmtp().getPort()).drain();
+
+        assertEquals(3, greenMail.getReceivedMessages().length);
+        for (EmailOutboxMessage message : new EmailOutboxMessage[]{first, second}) {
+            EmailOutboxMessage stored = repository.findById(message.getId()).orElseThrow();
+            assertEquals(Status.SENT, stored.getStatus());
+            assertEquals(1, stored.getAttempts());
+            assertNotNull(stored.getSentAt());
+        }
+    }
+
+    @Test
+    void failedSendsAreRetriedUntilMaxAttempts() throws Exception {
+        EmailOutboxMessage message = repository.save(new EmailOutboxMessage("ana@example.com", "News", "Body"));
+        EmailOutboxDispatcher dispatcher = dispatcher(unusedPort());
+
+        Instant beforeDrain = Instant.now();
+        dispatcher.drain();
+
+        EmailOutboxMessage retried = repository.findById(message.getId()).orElseThrow();
+        assertEquals(Status.PENDING, retried.getStatus());
+        assertEquals(1, retried.getAttempts());
+        assertFalse(retried.getNextAttemptAt().isBefore(beforeDrain.plus(config.getInitialBackoff())));
+        assertNotNull(retried.getLastError());
+
+        retried.setNextAttemptAt(Instant.now().minusSeconds(1));
+        repository.save(retried);
+        dispatcher.drain();
+
+        EmailOutboxMessage failed = repository.findById(message.getId()).orElseThrow();
+        assertEquals(Status.FAILED, failed.getStatus());
+        assertEquals(2, failed.getAttempts());
+    }
+
+    @Test
+    void expiredLeaseOnTheLastAttemptIsGivenUp() throws Exception {
+        EmailOutboxMessage message = new EmailOutboxMessage("ana@example.com", "News", "Body");
+        message.setStatus(Status.SENDING);
+        message.setAttempts(config.getMaxAttempts());
+        message.setLockedUntil(Instant.now().minus(Duration.ofMinutes(1)));
+        message = repository.save(message);
+
+        dispatcher(greenMail.getSmtp().getPort()).drain();
+
+        EmailOutboxMessage failed = repository.findById(message.getId()).orElseThrow();
+        assertEquals(Status.FAILED, failed.getStatus());
+        assertTrue(failed.getLastError().startsWith("Lease expired"));
+        assertEquals(0, greenMail.getReceivedMessages().length);
+    }
+
+    @Test
+    void unparseableRecipientsAreGivenUpWithoutRetrying() throws Exception {
+        EmailOutboxMessage message = repository.save(new EmailOutboxMessage("not an address@", "News", "Body"));
+
+        dispatcher(greenMail.getSmtp().getPort()).drain();
+
+        EmailOutboxMessage failed = repository.findById(message.getId()).orElseThrow();
+        assertEquals(Status.FAILED, failed.getStatus());
+        assertEquals(1, failed.getAttempts());
+    }
+
+    private EmailOutboxDispatcher dispatcher(int smtpPort) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtpPort);
+        mailSender.getJavaMailProperties().put("mail.smtp.connectiontimeout", "2000");
+        EmailConfig emailConfig = new EmailConfig();
+        emailConfig.setUsername("noreply@example.com");
+
+        emailSender = new EmailSender(mailSender, emailConfig, new EmailTransportConfig());
+        return new EmailOutboxDispatcher(repository, emailSender, mock(FileStorageService.class), config,
+                new SimpleMeterRegistry(), false);
+    }
+
+    private static int unusedPort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.gomestkd.startup.mail;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailOutboxDispatcherTest {
+
+    private static final Duration INITIAL = Duration.ofSeconds(30);
+    private static final Duration MAX = Duration.ofHours(1);
+
+    @Test
+    void backoffDoublesAfterEachAttempt() {
+        assertEquals(Duration.ofSeconds(30), EmailOutboxDispatcher.backoff(1, INITIAL, MAX));
+        assertEquals(Duration.ofSeconds(60), EmailOutboxDispatcher.backoff(2, INITIAL, MAX));
+        assertEquals(Duration.ofMinutes(4), EmailOutboxDispatcher.backoff(4, INITIAL, MAX));
+    }
+
+    @Test
+    void backoffIsCappedAndNeverOverflows() {
+        assertEquals(MAX, EmailOutboxDispatcher.backoff(10, INITIAL, MAX));
+        assertEquals(MAX, EmailOutboxDispatcher.backoff(Integer.MAX_VALUE, INITIAL, MAX));
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.gomestkd.startup.mail;
+
+import com.github.gomestkd.startup.config.EmailConfig;
+import com.github.gomestkd.startup.config.EmailTransportConfig;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailSenderTest {
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP.dynamicPort());
+
+    @Test
+    void builderRejectsInvalidRecipients() {
+        assertThrows(MailParseException.class, () -> EmailMessage.builder().to("not an address@").build());
+        assertThrows(MailParseException.class, () -> EmailMessage.builder().subject("Hello").build());
+    }
+
+    @Test
+    void builderParsesEveryRecipient() {
+        EmailMessage message = EmailMessage.builder().to("ana@example.com, bia@example.com").subject("Hi").body("Body").build();
+
+        assertEquals(2, message.getRecipients().size());
+        assertThrows(UnsupportedOperationException.class, () -> message.getRecipients().clear());
+    }
+
+    @Test
+    void batchReportsFailuresByIndexAndKeepsSending() throws Exception {
+        EmailSender sender = new EmailSender(mailSender(greenMail.getSmtp().getPort()), emailConfig(), new EmailTransportConfig());
+        Map<Integer, MailException> failures = sender.sendBatch(List.of(
+                EmailMessage.builder().to("ana@example.com").subject("News").body("Body").build(),
+                EmailMessage.builder().to("bia@example.com").subject("News").body(null).build(),
+                EmailMessage.builder().to("carla@example.com").subject("News").body("Body").build()
+        ));
+        sender.shutdown();
+
+        assertEquals(1, failures.size());
+        assertInstanceOf(MailPreparationException.class, failures.get(1));
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(2, received.length);
+        assertEquals("ana@example.com", received[0].getAllRecipients()[0].toString());
+        assertEquals("carla@example.com", received[1].getAllRecipients()[0].toString());
+    }
+
+    @Test
+    void unreachableServerFailsTheWholeBatch() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        EmailSender sender = new EmailSender(mailSender(port), emailConfig(), new EmailTransportConfig());
+
+        Map<Integer, MailException> failures = sender.sendBatch(List.of(
+                EmailMessage.builder().to("ana@example.com").subject("News").body("Body").build(),
+                EmailMessage.builder().to("bia@example.com").subject("News").body("Body").build()
+        ));
+        sender.shutdown();
+
+        assertEquals(2, failures.size());
+        assertInstanceOf(MailSendException.class, failures.get(0));
+        assertSame(failures.get(0), failures.get(1));
+        assertThrows(MailSendException.class, () -> sender.send(
+                EmailMessage.builder().to("ana@example.com").subject("News").body("Body").build()));
+    }
+
+    private static JavaMailSenderImpl mailSender(int port) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(port);
+        mailSender.getJavaMailProperties().put("mail.smtp.connectiontimeout", "2000");
+        return mailSender;
+    }
+
+    private static EmailConfig emailConfig() {
+        EmailConfig config = new EmailConfig();
+        config.setHost("localhost");
+        config.setUsername("noreply@example.com");
+        return config;
+    }
+}
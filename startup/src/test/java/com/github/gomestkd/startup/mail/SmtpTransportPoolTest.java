@@ -0,0 +1,127 @@
+package com.github.gomestkd.startup.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.time.Duration;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SmtpTransportPoolTest {
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP.dynamicPort());
+
+    private final Session session = Session.getInstance(new Properties());
+    private SmtpTransportPool pool;
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) pool.close();
+    }
+
+    @Test
+    void reusesReleasedConnections() throws Exception {
+        pool = pool(2, 10, Duration.ofSeconds(10));
+
+        SmtpTransportPool.PooledTransport first = pool.borrow();
+        first.send(message("ana@example.com"));
+        pool.release(first);
+        SmtpTransportPool.PooledTransport second = pool.borrow();
+        second.send(message("bia@example.com"));
+        pool.release(second);
+
+        assertSame(first, second);
+        assertEquals(2, greenMail.getReceivedMessages().length);
+    }
+
+    @Test
+    void retiresConnectionsAfterTheirMessageQuota() throws Exception {
+        pool = pool(1, 2, Duration.ofSeconds(10));
+
+        SmtpTransportPool.PooledTransport first = pool.borrow();
+        first.send(message("ana@example.com"));
+        assertFalse(first.isRetired());
+        first.send(message("bia@example.com"));
+        assertTrue(first.isRetired());
+        pool.release(first);
+
+        SmtpTransportPool.PooledTransport second = pool.borrow();
+        second.send(message("carla@example.com"));
+        pool.release(second);
+
+        assertNotSame(first, second);
+        assertEquals(3, greenMail.getReceivedMessages().length);
+    }
+
+    @Test
+    void validatesIdleConnectionsBeforeReuse() throws Exception {
+        pool = pool(1, 10, Duration.ZERO);
+
+        SmtpTransportPool.PooledTransport first = pool.borrow();
+        pool.release(first);
+        SmtpTransportPool.PooledTransport second = pool.borrow();
+        second.send(message("ana@example.com"));
+        pool.release(second);
+
+        assertSame(first, second);
+        assertEquals(1, greenMail.getReceivedMessages().length);
+    }
+
+    @Test
+    void timesOutWhenEveryConnectionIsBorrowed() throws Exception {
+        pool = pool(1, 10, Duration.ofSeconds(10));
+
+        SmtpTransportPool.PooledTransport borrowed = pool.borrow();
+        assertThrows(MessagingException.class, pool::borrow);
+
+        pool.invalidate(borrowed);
+        SmtpTransportPool.PooledTransport replacement = pool.borrow();
+        assertNotSame(borrowed, replacement);
+        pool.release(replacement);
+    }
+
+    @Test
+    void releasesThePermitWhenTheServerIsUnreachable() throws Exception {
+        pool = new SmtpTransportPool(session, "smtp", "localhost", greenMail.getSmtp().getPort(), null, null,
+                1, 10, Duration.ofSeconds(10), Duration.ofMillis(100));
+        greenMail.stop();
+
+        assertThrows(MessagingException.class, pool::borrow);
+        MessagingException second = assertThrows(MessagingException.class, pool::borrow);
+        assertFalse(second.getMessage().startsWith("Timed out"));
+    }
+
+    @Test
+    void closesConnectionsReleasedAfterShutdown() throws Exception {
+        pool = pool(1, 10, Duration.ofSeconds(10));
+
+        SmtpTransportPool.PooledTransport borrowed = pool.borrow();
+        pool.close();
+        pool.release(borrowed);
+
+        assertNotSame(borrowed, pool.borrow());
+    }
+
+    private SmtpTransportPool pool(int maxConnections, int maxMessages, Duration validateAfterIdle) {
+        return new SmtpTransportPool(session, "smtp", "localhost", greenMail.getSmtp().getPort(), null, null,
+                maxConnections, maxMessages, validateAfterIdle, Duration.ofMillis(100));
+    }
+
+    private MimeMessage message(String recipient) throws MessagingException {
+        MimeMessage message = new MimeMessage(session);
+        message.setFrom("noreply@example.com");
+        message.setRecipients(MimeMessage.RecipientType.TO, InternetAddress.parse(recipient));
+        message.setSubject("News");
+        message.setText("Body");
+        return message;
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.gomestkd.startup.mapper;
+
+import com.github.gomestkd.startup.data.dto.BookDTO;
+import com.github.gomestkd.startup.data.dto.PersonDTO;
+import com.github.gomestkd.startup.data.projection.PersonSummary;
+import com.github.gomestkd.startup.model.Book;
+import com.github.gomestkd.startup.model.Person;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Set;
+
+import static com.github.gomestkd.startup.mapper.ObjectMapper.parseListObject;
+import static com.github.gomestkd.startup.mapper.ObjectMapper.parseObject;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObjectMapperTest {
+
+    @Test
+    void parsePersonToDTO() {
+        Person entity = new Person(1L, "Ayrton", "Senna", "Sao Paulo", "Male", true,
+                "https://en.wikipedia.org/wiki/Ayrton_Senna", "photo.jpg");
+        entity.getBooks().add(new Book(7L, "Docker Deep Dive", "Nigel Poulton", 55.99, Instant.EPOCH));
+
+        PersonDTO dto = parseObject(entity, PersonDTO.class);
+
+        assertEquals(1L, dto.getId());
+        assertEquals("Ayrton", dto.getFirstName());
+        assertEquals("Senna", dto.getLastName());
+        assertEquals("Sao Paulo", dto.getAddress());
+        assertEquals("Male", dto.getGender());
+        assertTrue(dto.getEnabled());
+        assertEquals("https://en.wikipedia.org/wiki/Ayrton_Senna", dto.getProfileUrl());
+        assertEquals("photo.jpg", dto.getPhotoUrl());
+        assertEquals(1, dto.getBooks().size());
+    }
+
+    @Test
+    void parseSummaryToDTO() {
+        PersonSummary summary = new PersonSummary(3L, "Marie", "Curie", "Warsaw", "Female", true, "profile", "photo");
+
+        PersonDTO dto = parseObject(summary, PersonDTO.class);
+
+        assertEquals(3L, dto.getId());
+        assertEquals("Marie", dto.getFirstName());
+        assertEquals("Curie", dto.getLastName());
+        assertEquals("profile", dto.getProfileUrl());
+        assertEquals("photo", dto.getPhotoUrl());
+        assertTrue(dto.getBooks().isEmpty());
+    }
+
+    @Test
+    void parseDTOToPerson() {
+        PersonDTO dto = new PersonDTO(2L, "Nikola", "Tesla", "Smiljan", "Male", false, "profile", "photo");
+
+        Person entity = parseObject(dto, Person.class);
+
+        assertEquals(2L, entity.getId());
+        assertEquals("Nikola", entity.getFirstName());
+        assertEquals("Tesla", entity.getLastName());
+        assertFalse(entity.getEnabled());
+        assertEquals("profile", entity.getWikipediaProfileUrl());
+        assertEquals("photo", entity.getPhotoUrl());
+    }
+
+    @Test
+    void parseBookRoundTrip() {
+        Book entity = new Book(3L, "Clean Code", "Robert C. Martin", 77.0, Instant.EPOCH);
+
+        BookDTO dto = parseObject(entity, BookDTO.class);
+        Book back = parseObject(dto, Book.class);
+
+        assertEquals(entity.getId(), back.getId());
+        assertEquals(entity.getTitle(), back.getTitle());
+        assertEquals(entity.getAuthor(), back.getAuthor());
+        assertEquals(entity.getPrice(), back.getPrice());
+        assertEquals(entity.getLaunchDate(), back.getLaunchDate());
+    }
+
+    @Test
+    void parseSetOfBooks() {
+        Set<BookDTO> books = parseListObject(Set.of(
+                new Book(1L, "A", "Author", 1.0, Instant.EPOCH),
+                new Book(2L, "B", "Author", 2.0, Instant.EPOCH)), BookDTO.class);
+
+        assertEquals(2, books.size());
+        assertTrue(parseListObject(null, BookDTO.class).isEmpty());
+    }
+
+    @Test
+    void parseNullReturnsNull() {
+        assertNull(parseObject(null, PersonDTO.class));
+    }
+
+    @Test
+    void parseUnknownPairThrows() {
+        assertThrows(IllegalArgumentException.class, () -> parseObject("text", PersonDTO.class));
+    }
+}
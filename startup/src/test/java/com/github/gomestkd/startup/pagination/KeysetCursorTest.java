@@ -0,0 +1,24 @@
+package com.github.gomestkd.startup.pagination;
+
+import com.github.gomestkd.startup.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    void encodeAndDecodeRoundTrip() {
+        KeysetCursor cursor = new KeysetCursor("Ana: Maria", 42L);
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void decodeRejectsGarbage() {
+        assertThrows(BadRequestException.class, () -> KeysetCursor.decode("not a cursor!"));
+        assertThrows(BadRequestException.class, () -> KeysetCursor.decode("YWJj"));
+    }
+}
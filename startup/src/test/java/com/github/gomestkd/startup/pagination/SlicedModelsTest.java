@@ -0,0 +1,55 @@
+package com.github.gomestkd.startup.pagination;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedModel;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlicedModelsTest {
+
+    private static Link link(Pageable pageable) {
+        return Link.of("/people?page=" + pageable.getPageNumber());
+    }
+
+    @Test
+    void linksToNeighbouringSlicesWithoutMetadataByDefault() {
+        SliceImpl<String> slice = new SliceImpl<>(List.of("Ana", "Bia"), PageRequest.of(1, 2), true);
+
+        PagedModel<EntityModel<String>> model = SlicedModels.of(slice, null, SlicedModelsTest::link);
+
+        assertNull(model.getMetadata());
+        assertEquals(2, model.getContent().size());
+        assertEquals("/people?page=1", model.getRequiredLink(IanaLinkRelations.SELF).getHref());
+        assertEquals("/people?page=0", model.getRequiredLink(IanaLinkRelations.PREV).getHref());
+        assertEquals("/people?page=2", model.getRequiredLink(IanaLinkRelations.NEXT).getHref());
+    }
+
+    @Test
+    void reportsTheEstimateAndClampsUnanalyzedTables() {
+        SliceImpl<String> slice = new SliceImpl<>(List.of("Ana"), PageRequest.of(0, 2), false);
+
+        PagedModel<EntityModel<String>> model = SlicedModels.of(slice, () -> 1234L, SlicedModelsTest::link);
+        assertEquals(1234L, model.getMetadata().getTotalElements());
+        assertEquals(2, model.getMetadata().getSize());
+        assertTrue(model.getLink(IanaLinkRelations.PREV).isEmpty());
+        assertTrue(model.getLink(IanaLinkRelations.NEXT).isEmpty());
+
+        assertEquals(0L, SlicedModels.of(slice, () -> -1L, SlicedModelsTest::link).getMetadata().getTotalElements());
+        assertEquals(0L, SlicedModels.of(slice, () -> null, SlicedModelsTest::link).getMetadata().getTotalElements());
+    }
+
+    @Test
+    void directionFollowsTheFirstSortOrder() {
+        assertEquals("desc", SlicedModels.direction(PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "firstName"))));
+        assertEquals("asc", SlicedModels.direction(PageRequest.of(0, 2)));
+    }
+}
@@ -0,0 +1,163 @@
+package com.github.gomestkd.startup.repository;
+
+import com.github.gomestkd.startup.model.EmailOutboxMessage;
+import com.github.gomestkd.startup.model.EmailOutboxMessage.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class EmailOutboxRepositoryTest {
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Autowired
+    private EmailOutboxRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void claimBatchLeasesOnlyDueMessages() {
+        EmailOutboxMessage due = save("ana@example.com", Status.PENDING, now.minusSeconds(1));
+        save("bia@example.com", Status.PENDING, now.plusSeconds(60));
+        save("carla@example.com", Status.SENT, now.minusSeconds(1));
+
+        List<EmailOutboxMessage> claimed = repository.claimBatch(now, now.plus(LEASE), 10);
+
+        assertEquals(1, claimed.size());
+        EmailOutboxMessage message = claimed.get(0);
+        assertEquals(due.getId(), message.getId());
+        assertEquals(Status.SENDING, message.getStatus());
+        assertEquals(1, message.getAttempts());
+        assertEquals(now.plus(LEASE), message.getLockedUntil());
+    }
+
+    @Test
+    void claimBatchRespectsTheBatchSizeInDueOrder() {
+        EmailOutboxMessage oldest = save("ana@example.com", Status.PENDING, now.minusSeconds(30));
+        EmailOutboxMessage older = save("bia@example.com", Status.PENDING, now.minusSeconds(20));
+        save("carla@example.com", Status.PENDING, now.minusSeconds(10));
+
+        List<EmailOutboxMessage> claimed = repository.claimBatch(now, now.plus(LEASE), 2);
+
+        assertEquals(List.of(oldest.getId(), older.getId()), claimed.stream().map(EmailOutboxMessage::getId).sorted().toList());
+    }
+
+    @Test
+    void concurrentClaimsSkipLockedRowsInsteadOfWaiting() throws Exception {
+        for (int i = 0; i < 4; i++) save("user" + i + "@example.com", Status.PENDING, now.minusSeconds(i + 1));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        List<Long> second = transaction.execute(status -> {
+            List<Long> first = ids(repository.claimBatch(now, now.plus(LEASE), 2));
+            // The first claim is uncommitted and still holds its row locks.
+            List<Long> other = CompletableFuture
+                    .supplyAsync(() -> ids(repository.claimBatch(now, now.plus(LEASE), 4)))
+                    .orTimeout(10, TimeUnit.SECONDS)
+                    .join();
+            assertEquals(2, first.size());
+            assertTrue(other.stream().noneMatch(first::contains));
+            return other;
+        });
+
+        assertEquals(2, second.size());
+        assertEquals(4, repository.findAll().stream().filter(m -> m.getStatus() == Status.SENDING).count());
+    }
+
+    @Test
+    void expiredLeasesAreClaimedAgain() {
+        EmailOutboxMessage message = save("ana@example.com", Status.PENDING, now.minusSeconds(1));
+        repository.claimBatch(now, now.plus(LEASE), 10);
+
+        assertTrue(repository.claimBatch(now.plus(LEASE).minusSeconds(1), now.plus(LEASE.multipliedBy(2)), 10).isEmpty());
+
+        Instant later = now.plus(LEASE).plusSeconds(1);
+        List<EmailOutboxMessage> reclaimed = repository.claimBatch(later, later.plus(LEASE), 10);
+        assertEquals(1, reclaimed.size());
+        assertEquals(message.getId(), reclaimed.get(0).getId());
+        assertEquals(2, reclaimed.get(0).getAttempts());
+    }
+
+    @Test
+    void markSentOnlyTouchesMessagesStillBeingSent() {
+        EmailOutboxMessage sending = save("ana@example.com", Status.PENDING, now.minusSeconds(1));
+        repository.claimBatch(now, now.plus(LEASE), 10);
+        EmailOutboxMessage pending = save("bia@example.com", Status.PENDING, now.plusSeconds(60));
+
+        int updated = repository.markSent(List.of(sending.getId(), pending.getId()), now, Status.SENT, Status.SENDING);
+
+        assertEquals(1, updated);
+        EmailOutboxMessage sent = repository.findById(sending.getId()).orElseThrow();
+        assertEquals(Status.SENT, sent.getStatus());
+        assertEquals(now, sent.getSentAt());
+        assertNull(sent.getLockedUntil());
+        assertEquals(Status.PENDING, repository.findById(pending.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void markFailedAttemptReleasesTheLease() {
+        EmailOutboxMessage message = save("ana@example.com", Status.PENDING, now.minusSeconds(1));
+        repository.claimBatch(now, now.plus(LEASE), 10);
+
+        assertEquals(1, repository.markFailedAttempt(message.getId(), Status.PENDING, now.plusSeconds(30), "timeout", Status.SENDING));
+        assertEquals(0, repository.markFailedAttempt(message.getId(), Status.FAILED, now, "late", Status.SENDING));
+
+        EmailOutboxMessage retried = repository.findById(message.getId()).orElseThrow();
+        assertEquals(Status.PENDING, retried.getStatus());
+        assertEquals("timeout", retried.getLastError());
+        assertNull(retried.getLockedUntil());
+        assertTrue(repository.claimBatch(now, now.plus(LEASE), 10).isEmpty());
+    }
+
+    private EmailOutboxMessage save(String recipient, Status status, Instant nextAttemptAt) {
+        EmailOutboxMessage message = new EmailOutboxMessage(recipient, "News", "Body");
+        message.setStatus(status);
+        message.setNextAttemptAt(nextAttemptAt);
+        return repository.save(message);
+    }
+
+    private static List<Long> ids(List<EmailOutboxMessage> messages) {
+        return messages.stream().map(EmailOutboxMessage::getId).toList();
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.gomestkd.startup.secutiry.jwt;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.gomestkd.startup.data.dto.security.TokenDTO;
+import com.github.gomestkd.startup.exception.InvalidJWTAuthenticationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Instant;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class JwtTokenProviderTest {
+
+    private final TokenRevocationList revocationList = new TokenRevocationList(3_600_000);
+    private final JwtTokenProvider provider = new JwtTokenProvider(mock(UserDetailsService.class), revocationList);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(provider, "secretKey", "test-secret");
+        ReflectionTestUtils.setField(provider, "validityInMilliseconds", 3_600_000L);
+        ReflectionTestUtils.setField(provider, "authenticationMode", AuthenticationMode.CLAIMS);
+        ReflectionTestUtils.setField(provider, "revocationCheck", true);
+        provider.init();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void tokensExpireAfterTheConfiguredMilliseconds() {
+        TokenDTO token = provider.createAccessToken("ana", Set.of("ADMIN"));
+
+        DecodedJWT decoded = provider.decodeAndValidate(token.getAccessToken());
+        assertEquals(3600, decoded.getExpiresAtAsInstant().getEpochSecond() - decoded.getIssuedAtAsInstant().getEpochSecond());
+    }
+
+    @Test
+    void signOutRejectsEarlierAccessAndRefreshTokens() {
+        TokenDTO token = provider.createAccessToken("ana", Set.of("ADMIN"));
+        DecodedJWT accessToken = provider.decodeAndValidate(token.getAccessToken());
+        assertNotNull(provider.getAuthentication(accessToken));
+
+        revocationList.revoke("ana", Instant.now().plusSeconds(1));
+
+        assertNull(provider.getAuthentication(accessToken));
+        assertThrows(InvalidJWTAuthenticationException.class,
+                () -> provider.refreshToken("Bearer " + token.getRefreshToken()));
+    }
+
+    @Test
+    void signOutDoesNotAffectOtherUsers() {
+        TokenDTO token = provider.createAccessToken("bia", Set.of("MANAGER"));
+
+        revocationList.revoke("ana", Instant.now().plusSeconds(1));
+
+        Authentication authentication = provider.getAuthentication(provider.decodeAndValidate(token.getAccessToken()));
+        assertEquals("bia", authentication.getName());
+    }
+}
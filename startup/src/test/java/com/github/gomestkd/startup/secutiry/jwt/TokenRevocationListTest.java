@@ -0,0 +1,43 @@
+package com.github.gomestkd.startup.secutiry.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenRevocationListTest {
+
+    private static final Instant REVOKED_AT = Instant.parse("2026-01-10T10:00:00.700Z");
+
+    private final TokenRevocationList revocationList = new TokenRevocationList(3_600_000);
+
+    @Test
+    void rejectsTokensIssuedInEarlierSeconds() {
+        revocationList.revoke("ana", REVOKED_AT);
+
+        assertTrue(revocationList.isRevoked("ana", Instant.parse("2026-01-10T09:59:59Z")));
+        assertTrue(revocationList.isRevoked("ana", null));
+        assertFalse(revocationList.isRevoked("bia", Instant.parse("2026-01-10T09:59:59Z")));
+    }
+
+    @Test
+    void keepsTokensIssuedDuringTheRevocationSecond() {
+        revocationList.revoke("ana", REVOKED_AT);
+
+        assertFalse(revocationList.isRevoked("ana", Instant.parse("2026-01-10T10:00:00Z")));
+        assertFalse(revocationList.isRevoked("ana", Instant.parse("2026-01-10T10:00:01Z")));
+    }
+
+    @Test
+    void prunesRevocationsOnceEveryTokenHasExpired() {
+        revocationList.revoke("ana", REVOKED_AT);
+        revocationList.revoke("bia", REVOKED_AT.plusSeconds(3 * 3600 - 1));
+        assertEquals(2, revocationList.size());
+
+        revocationList.revoke("carla", REVOKED_AT.plusSeconds(3 * 3600 + 1));
+
+        assertEquals(2, revocationList.size());
+        assertFalse(revocationList.isRevoked("ana", Instant.parse("2026-01-10T09:59:59Z")));
+    }
+}
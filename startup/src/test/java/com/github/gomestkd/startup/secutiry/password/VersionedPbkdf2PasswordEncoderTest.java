@@ -0,0 +1,57 @@
+package com.github.gomestkd.startup.secutiry.password;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VersionedPbkdf2PasswordEncoderTest {
+
+    private final Pbkdf2PasswordEncoder legacyEncoder = new Pbkdf2PasswordEncoder(
+            "", 8, 185000,
+            Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+
+    @Test
+    void legacyParametersKeepTheOriginalId() {
+        VersionedPbkdf2PasswordEncoder encoder = new VersionedPbkdf2PasswordEncoder(185000);
+        String hash = encoder.encode("secret");
+
+        assertTrue(hash.startsWith("{pbkdf2}"));
+        assertTrue(encoder.matches("secret", hash));
+        assertFalse(encoder.upgradeEncoding(hash));
+    }
+
+    @Test
+    void matchesLegacyHashesAndAsksForAnUpgrade() {
+        VersionedPbkdf2PasswordEncoder encoder = new VersionedPbkdf2PasswordEncoder(1000);
+        String prefixed = "{pbkdf2}" + legacyEncoder.encode("secret");
+        String unprefixed = legacyEncoder.encode("secret");
+
+        assertTrue(encoder.matches("secret", prefixed));
+        assertTrue(encoder.matches("secret", unprefixed));
+        assertFalse(encoder.matches("wrong", prefixed));
+        assertTrue(encoder.upgradeEncoding(prefixed));
+        assertTrue(encoder.upgradeEncoding(unprefixed));
+    }
+
+    @Test
+    void recordsTheIterationCountInTheId() {
+        VersionedPbkdf2PasswordEncoder current = new VersionedPbkdf2PasswordEncoder(1000);
+        String hash = current.encode("secret");
+
+        assertTrue(hash.startsWith("{pbkdf2@1000}"));
+        assertFalse(current.upgradeEncoding(hash));
+
+        VersionedPbkdf2PasswordEncoder tuned = new VersionedPbkdf2PasswordEncoder(2000);
+        assertTrue(tuned.matches("secret", hash));
+        assertTrue(tuned.upgradeEncoding(hash));
+    }
+
+    @Test
+    void rejectsUnknownIds() {
+        VersionedPbkdf2PasswordEncoder encoder = new VersionedPbkdf2PasswordEncoder(1000);
+
+        assertFalse(encoder.matches("secret", "{bcrypt}$2a$10$abc"));
+        assertFalse(encoder.matches("secret", "{pbkdf2@x}abc"));
+    }
+}
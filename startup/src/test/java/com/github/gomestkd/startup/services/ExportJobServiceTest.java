@@ -0,0 +1,106 @@
+package com.github.gomestkd.startup.services;
+
+import com.github.gomestkd.startup.config.ExportJobConfig;
+import com.github.gomestkd.startup.data.dto.ExportJobDTO.Status;
+import com.github.gomestkd.startup.exception.ResourceNotFoundException;
+import com.github.gomestkd.startup.file.exporter.MediaTypes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ExportJobServiceTest {
+
+    private final PersonService personService = mock(PersonService.class);
+    private final FileStorageService fileStorageService = mock(FileStorageService.class);
+    private final ExportJobConfig config = new ExportJobConfig();
+    private final ExportJobService service = new ExportJobService(personService, fileStorageService, config, false);
+    private final ByteArrayOutputStream file = new ByteArrayOutputStream();
+
+    @BeforeEach
+    void setUp() {
+        when(fileStorageService.openOutputStream(anyString())).thenReturn(file);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void pruneExpiredDiscardsFinishedJobsAndTheirFiles() throws Exception {
+        config.setRetention(Duration.ofMillis(1));
+        writesPage("ID\n");
+
+        String jobId = service.submit(PageRequest.of(0, 12), MediaTypes.APPLICATION_CSV_VALUE).getJobId();
+        awaitStatus(jobId, Status.COMPLETED);
+        Thread.sleep(5);
+
+        service.pruneExpired();
+
+        assertThrows(ResourceNotFoundException.class, () -> service.getStatus(jobId));
+        verify(fileStorageService).deleteFile("export-" + jobId + ".csv");
+    }
+
+    @Test
+    void pruneExpiredKeepsJobsWithinTheRetention() throws Exception {
+        writesPage("ID\n");
+
+        String jobId = service.submit(PageRequest.of(0, 12), MediaTypes.APPLICATION_CSV_VALUE).getJobId();
+        awaitStatus(jobId, Status.COMPLETED);
+
+        service.pruneExpired();
+
+        assertEquals(Status.COMPLETED, service.getStatus(jobId).getStatus());
+        verify(fileStorageService, never()).deleteFile(anyString());
+    }
+
+    @Test
+    void runWritesThePageStraightToTheJobFile() throws Exception {
+        writesPage("ID,First Name\n1,Ana\n");
+
+        String jobId = service.submit(PageRequest.of(0, 12), MediaTypes.APPLICATION_CSV_VALUE).getJobId();
+        awaitStatus(jobId, Status.COMPLETED);
+
+        verify(fileStorageService).openOutputStream("export-" + jobId + ".csv");
+        assertEquals("ID,First Name\n1,Ana\n", file.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void failedJobDeletesItsPartialFile() throws Exception {
+        doAnswer(invocation -> {
+            invocation.getArgument(2, OutputStream.class).write("ID\n".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk full");
+        }).when(personService).exportPage(any(), anyString(), any(OutputStream.class));
+
+        String jobId = service.submit(PageRequest.of(0, 12), MediaTypes.APPLICATION_CSV_VALUE).getJobId();
+        awaitStatus(jobId, Status.FAILED);
+
+        verify(fileStorageService).deleteFile("export-" + jobId + ".csv");
+    }
+
+    private void writesPage(String content) throws IOException {
+        doAnswer(invocation -> {
+            invocation.getArgument(2, OutputStream.class).write(content.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(personService).exportPage(any(), anyString(), any(OutputStream.class));
+    }
+
+    private void awaitStatus(String jobId, Status status) throws InterruptedException {
+        for (int i = 0; i < 500 && service.getStatus(jobId).getStatus() != status; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(status, service.getStatus(jobId).getStatus());
+    }
+}
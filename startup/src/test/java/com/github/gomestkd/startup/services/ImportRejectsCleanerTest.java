@@ -0,0 +1,44 @@
+package com.github.gomestkd.startup.services;
+
+import com.github.gomestkd.startup.config.FileStorageConfig;
+import com.github.gomestkd.startup.config.ImportConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImportRejectsCleanerTest {
+
+    @TempDir
+    Path uploadDir;
+
+    @Test
+    void deleteExpiredRemovesOnlyOldRejectsFiles() throws Exception {
+        FileStorageConfig storageConfig = new FileStorageConfig();
+        storageConfig.setUploadDir(uploadDir.toString());
+        ImportConfig importConfig = new ImportConfig();
+        importConfig.setRejectsRetention(Duration.ofHours(1));
+
+        Path expired = file("import-rejects-old.csv", Instant.now().minus(Duration.ofHours(2)));
+        Path recent = file("import-rejects-new.csv", Instant.now());
+        Path other = file("people.csv", Instant.now().minus(Duration.ofHours(2)));
+
+        new ImportRejectsCleaner(new FileStorageService(storageConfig), importConfig, false).deleteExpired();
+
+        assertFalse(Files.exists(expired));
+        assertTrue(Files.exists(recent));
+        assertTrue(Files.exists(other));
+    }
+
+    private Path file(String name, Instant lastModified) throws Exception {
+        Path file = Files.writeString(uploadDir.resolve(name), "line,error\n");
+        Files.setLastModifiedTime(file, FileTime.from(lastModified));
+        return file;
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.gomestkd.startup.services;
+
+import com.github.gomestkd.startup.config.PasswordHashingConfig;
+import com.github.gomestkd.startup.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingServiceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private PasswordHashingService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) service.shutdown();
+    }
+
+    @Test
+    void returnsTheResultAndRecordsTheHash() {
+        service = new PasswordHashingService(config(1, 1), registry);
+
+        assertEquals("hash", service.execute(() -> "hash"));
+        assertEquals(1, registry.get("auth.hashing.duration").timer().count());
+    }
+
+    @Test
+    void rethrowsAuthenticationFailuresUnchanged() {
+        service = new PasswordHashingService(config(1, 1), registry);
+
+        assertThrows(BadCredentialsException.class, () -> service.execute(() -> {
+            throw new BadCredentialsException("Bad credentials");
+        }));
+    }
+
+    @Test
+    void rejectsWhenThePoolAndQueueAreFull() throws Exception {
+        service = new PasswordHashingService(config(1, 0), registry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            caller.submit(() -> service.execute(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            assertThrows(TooManyRequestsException.class, () -> service.execute(() -> "hash"));
+            assertEquals(1.0, registry.get("auth.hashing.rejected").counter().count());
+        } finally {
+            release.countDown();
+            caller.shutdown();
+        }
+    }
+
+    private static PasswordHashingConfig config(int poolSize, int queueCapacity) {
+        PasswordHashingConfig config = new PasswordHashingConfig();
+        config.setPoolSize(poolSize);
+        config.setQueueCapacity(queueCapacity);
+        return config;
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.gomestkd.startup.services;
+
+import com.github.gomestkd.startup.config.ImportConfig;
+import com.github.gomestkd.startup.data.dto.ImportErrorDTO;
+import com.github.gomestkd.startup.data.dto.ImportSummaryDTO;
+import com.github.gomestkd.startup.exception.FileStorageException;
+import com.github.gomestkd.startup.file.exporter.factory.FileExporterFactory;
+import com.github.gomestkd.startup.file.importer.factory.FileImporterFactory;
+import com.github.gomestkd.startup.file.importer.contract.StreamingFileImporter;
+import com.github.gomestkd.startup.file.importer.implementation.CsvImporter;
+import com.github.gomestkd.startup.model.Person;
+import com.github.gomestkd.startup.repository.PersonBulkRepository;
+import com.github.gomestkd.startup.repository.PersonRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+class PersonServiceTest {
+
+    private final PersonBulkRepository bulkRepository = mock(PersonBulkRepository.class);
+    private final FileImporterFactory importerFactory = mock(FileImporterFactory.class);
+    private final FileStorageService fileStorageService = mock(FileStorageService.class);
+    private final ImportConfig importConfig = new ImportConfig();
+    private final List<String> saved = new ArrayList<>();
+
+    @Test
+    void batchModeRejectsOnlyTheRowsThatCannotBeInserted() {
+        importConfig.setChunkSize(10);
+        when(importerFactory.getStreamingImporter(anyString())).thenReturn(new CsvImporter(importConfig));
+        when(fileStorageService.openOutputStream(anyString())).thenReturn(new ByteArrayOutputStream());
+        when(bulkRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Person> people = invocation.getArgument(0);
+            if (people.stream().anyMatch(person -> person.getFirstName().startsWith("Bad"))) {
+                throw new DataIntegrityViolationException("value too long");
+            }
+            people.forEach(person -> saved.add(person.getFirstName()));
+            return people;
+        });
+
+        StringBuilder csv = new StringBuilder("first_name,last_name,address,gender\n");
+        for (int i = 1; i <= 10; i++) {
+            csv.append(i == 3 || i == 8 ? "Bad" : "Name").append(i).append(",Silva,Street ").append(i).append(",Female\n");
+        }
+        ImportSummaryDTO summary = service().massCreation(
+                new MockMultipartFile("file", "people.csv", "text/csv", csv.toString().getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(8, summary.getAccepted());
+        assertEquals(2, summary.getRejected());
+        assertEquals(List.of(4L, 9L), summary.getErrors().stream().map(ImportErrorDTO::getLine).toList());
+        assertEquals(List.of("Name1", "Name2", "Name4", "Name5", "Name6", "Name7", "Name9", "Name10"), saved);
+    }
+
+    @Test
+    void failedImportDeletesItsRejectsFile() throws Exception {
+        StreamingFileImporter importer = mock(StreamingFileImporter.class);
+        when(importerFactory.getStreamingImporter(anyString())).thenReturn(importer);
+        doThrow(new IOException("truncated upload")).when(importer).importBatches(any(), anyInt(), any());
+
+        assertThrows(FileStorageException.class, () -> service().massCreation(
+                new MockMultipartFile("file", "people.csv", "text/csv", "first_name\n".getBytes(StandardCharsets.UTF_8))));
+
+        verify(fileStorageService).deleteFile(startsWith("import-rejects-"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private PersonService service() {
+        return new PersonService(mock(PersonRepository.class), importerFactory, mock(FileExporterFactory.class),
+                mock(PagedResourcesAssembler.class), mock(EntityManager.class), mock(PlatformTransactionManager.class),
+                bulkRepository, importConfig, fileStorageService);
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.gomestkd.startup.services;
+
+import com.github.gomestkd.startup.config.UserCacheConfig;
+import com.github.gomestkd.startup.model.User;
+import com.github.gomestkd.startup.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UserServiceTest {
+
+    private final UserRepository repository = mock(UserRepository.class);
+    private final UserService service = new UserService(repository, new UserCacheConfig(), new SimpleMeterRegistry());
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void cachesLoadedUsers() {
+        when(repository.findByUsername("ana")).thenReturn(user("ana"));
+
+        service.loadUserByUsername("ana");
+        service.loadUserByUsername("ana");
+
+        verify(repository, times(1)).findByUsername("ana");
+        assertEquals(1, service.getCacheStats().hitCount());
+    }
+
+    @Test
+    void doesNotCacheUnknownUsers() {
+        assertThrows(UsernameNotFoundException.class, () -> service.loadUserByUsername("ghost"));
+        assertThrows(UsernameNotFoundException.class, () -> service.loadUserByUsername("ghost"));
+
+        verify(repository, times(2)).findByUsername("ghost");
+    }
+
+    @Test
+    void concurrentCallersShareOneQuery() throws Exception {
+        CountDownLatch queried = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(repository.findByUsername("ana")).thenAnswer(invocation -> {
+            queried.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return user("ana");
+        });
+
+        Future<UserDetails> first = executor.submit(() -> service.loadUserByUsername("ana"));
+        assertTrue(queried.await(5, TimeUnit.SECONDS));
+        Future<UserDetails> second = executor.submit(() -> service.loadUserByUsername("ana"));
+        Thread.sleep(50);
+        release.countDown();
+
+        assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+        verify(repository, times(1)).findByUsername("ana");
+    }
+
+    @Test
+    void evictDuringLoadKeepsTheStaleUserOutOfTheCache() throws Exception {
+        CountDownLatch queried = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        User stale = user("ana");
+        User fresh = user("ana");
+        when(repository.findByUsername("ana")).thenAnswer(invocation -> {
+            queried.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return stale;
+        }).thenReturn(fresh);
+
+        Future<UserDetails> inFlight = executor.submit(() -> service.loadUserByUsername("ana"));
+        assertTrue(queried.await(5, TimeUnit.SECONDS));
+        service.evict("ana");
+        release.countDown();
+
+        assertSame(stale, inFlight.get(5, TimeUnit.SECONDS));
+        assertSame(fresh, service.loadUserByUsername("ana"));
+        assertSame(fresh, service.loadUserByUsername("ana"));
+        verify(repository, times(2)).findByUsername("ana");
+    }
+
+    private static User user(String username) {
+        User user = new User();
+        user.setUsername(username);
+        return user;
+    }
+}